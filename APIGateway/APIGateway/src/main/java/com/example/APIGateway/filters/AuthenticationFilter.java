@@ -1,15 +1,57 @@
 package com.example.APIGateway.filters;
 
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.example.APIGateway.util.VerifiedTokenCache;
 
-import com.example.APIGateway.util.JwtUtil;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import reactor.core.publisher.Mono;
 
+/**
+ * Rejects requests to secured routes that do not carry a valid bearer token.
+ * Rejections are answered with a pre-built 401 body written straight to the
+ * response, so no exception, stack trace or error page is produced on the
+ * event loop. Rejections are counted in {@code gateway.auth.rejected}, tagged
+ * by reason, and summarized in at most one WARN line per
+ * {@code gateway.auth.rejection-log-seconds}, so a credential-stuffing burst
+ * is visible without logging every request.
+ */
 @Component
-public class AuthenticationFilter extends AbstractGatewayFilterFactory<AuthenticationFilter.Config> {
+public class AuthenticationFilter extends AbstractGatewayFilterFactory<AuthenticationFilter.Config>
+        implements MeterBinder {
+
+    /**
+     * Exchange attribute holding the subject of a verified token.
+     */
+    public static final String USER_ATTRIBUTE = AuthenticationFilter.class.getName() + ".user";
+
+    private static final Logger log = LoggerFactory.getLogger(AuthenticationFilter.class);
+
+    private static final byte[] MISSING_TOKEN_BODY = "{\"status\":401,\"error\":\"missing authorization header\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] INVALID_TOKEN_BODY = "{\"status\":401,\"error\":\"un authorized access to application\"}"
+            .getBytes(StandardCharsets.UTF_8);
 
     @Autowired
     private RouteValidator validator;
@@ -17,7 +59,20 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
     //    @Autowired
 //    private RestTemplate template;
     @Autowired
-    private JwtUtil jwtUtil;
+    private VerifiedTokenCache tokenCache;
+
+    @Value("${gateway.auth.rejection-log-seconds:10}")
+    private long rejectionLogSeconds = 10;
+
+    private final LongAdder missingHeader = new LongAdder();
+
+    private final LongAdder invalidToken = new LongAdder();
+
+    // System.nanoTime() from which the next summary may be logged
+    private final AtomicLong nextSummaryAt = new AtomicLong(System.nanoTime());
+
+    // Rejections already covered by a summary; only written by the thread that won nextSummaryAt
+    private volatile long summarized;
 
     public AuthenticationFilter() {
         super(Config.class);
@@ -28,28 +83,62 @@ public class AuthenticationFilter extends AbstractGatewayFilterFactory<Authentic
         return ((exchange, chain) -> {
             if (validator.isSecured.test(exchange.getRequest())) {
                 //header contains token or not
-                if (!exchange.getRequest().getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
-                    throw new RuntimeException("missing authorization header");
+                String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+                if (authHeader == null) {
+                    return reject(exchange, MISSING_TOKEN_BODY, "missing_header", missingHeader);
                 }
 
-                String authHeader = exchange.getRequest().getHeaders().get(HttpHeaders.AUTHORIZATION).get(0);
-                if (authHeader != null && authHeader.startsWith("Bearer ")) {
+                if (authHeader.startsWith("Bearer ")) {
                     authHeader = authHeader.substring(7);
                 }
                 try {
 //                    //REST call to AUTH service
 //                    template.getForObject("http://IDENTITY-SERVICE//validate?token" + authHeader, String.class);
-                    jwtUtil.validateToken(authHeader);
+                    String subject = tokenCache.validate(authHeader).getSubject();
+                    if (subject != null) {
+                        exchange.getAttributes().put(USER_ATTRIBUTE, subject);
+                    }
 
-                } catch (Exception e) {
-                    System.out.println("invalid access...!");
-                    throw new RuntimeException("un authorized access to application");
+                } catch (JwtException | IllegalArgumentException e) {
+                    return reject(exchange, INVALID_TOKEN_BODY, "invalid_token", invalidToken);
                 }
             }
             return chain.filter(exchange);
         });
     }
 
+    private Mono<Void> reject(ServerWebExchange exchange, byte[] body, String reason, LongAdder counter) {
+        counter.increment();
+        ServerHttpRequest request = exchange.getRequest();
+        if (log.isDebugEnabled()) {
+            log.debug("auth_rejected reason={} method={} path={} remote={}", reason, request.getMethod(),
+                    request.getPath().value(), request.getRemoteAddress());
+        }
+        long now = System.nanoTime();
+        long due = nextSummaryAt.get();
+        if (now - due >= 0 && nextSummaryAt.compareAndSet(due, now + TimeUnit.SECONDS.toNanos(rejectionLogSeconds))) {
+            long total = missingHeader.sum() + invalidToken.sum();
+            log.warn("auth_rejected_summary count={} last_reason={} last_path={} last_remote={}", total - summarized,
+                    reason, request.getPath().value(), request.getRemoteAddress());
+            summarized = total;
+        }
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        HttpHeaders headers = response.getHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setContentLength(body.length);
+        headers.set(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("gateway.auth.rejected", missingHeader, LongAdder::sum).tag("reason", "missing_header")
+                .description("Requests to secured routes rejected with a 401").register(registry);
+        FunctionCounter.builder("gateway.auth.rejected", invalidToken, LongAdder::sum).tag("reason", "invalid_token")
+                .description("Requests to secured routes rejected with a 401").register(registry);
+    }
+
     public static class Config {
 
     }
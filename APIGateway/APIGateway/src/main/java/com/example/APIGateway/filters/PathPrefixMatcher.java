@@ -0,0 +1,94 @@
+package com.example.APIGateway.filters;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable character trie over path prefixes. A prefix matches a path that
+ * equals it or continues it with a new segment, so {@code /auth/register}
+ * matches {@code /auth/register} and {@code /auth/register/confirm} but not
+ * {@code /auth/registered} or {@code /api/users/auth/register}. Lookups
+ * walk the trie once and allocate nothing.
+ */
+public final class PathPrefixMatcher {
+
+	private final Node root;
+
+	private PathPrefixMatcher(Node root) {
+		this.root = root;
+	}
+
+	/**
+	 * Compiles the given prefixes; blank entries are ignored and trailing
+	 * slashes are dropped.
+	 */
+	public static PathPrefixMatcher compile(Collection<String> prefixes) {
+		Node root = new Node();
+		for (String prefix : prefixes) {
+			String normalized = prefix == null ? "" : prefix.strip();
+			while (normalized.endsWith("/")) {
+				normalized = normalized.substring(0, normalized.length() - 1);
+			}
+			if (normalized.isEmpty()) {
+				continue;
+			}
+			Node node = root;
+			for (int i = 0; i < normalized.length(); i++) {
+				node = node.childOrAdd(normalized.charAt(i));
+			}
+			node.terminal = true;
+		}
+		return new PathPrefixMatcher(root);
+	}
+
+	/**
+	 * Returns whether the path starts with one of the prefixes on a segment
+	 * boundary.
+	 */
+	public boolean matches(String path) {
+		Node node = root;
+		int length = path.length();
+		for (int i = 0; i < length; i++) {
+			node = node.child(path.charAt(i));
+			if (node == null) {
+				return false;
+			}
+			if (node.terminal && (i + 1 == length || path.charAt(i + 1) == '/')) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static final class Node {
+
+		// Sorted labels, parallel to children
+		private char[] labels = new char[0];
+		private Node[] children = new Node[0];
+		private boolean terminal;
+
+		Node child(char label) {
+			int index = Arrays.binarySearch(labels, label);
+			return index >= 0 ? children[index] : null;
+		}
+
+		Node childOrAdd(char label) {
+			int index = Arrays.binarySearch(labels, label);
+			if (index >= 0) {
+				return children[index];
+			}
+			int insertAt = -index - 1;
+			char[] newLabels = new char[labels.length + 1];
+			Node[] newChildren = new Node[children.length + 1];
+			System.arraycopy(labels, 0, newLabels, 0, insertAt);
+			System.arraycopy(children, 0, newChildren, 0, insertAt);
+			newLabels[insertAt] = label;
+			newChildren[insertAt] = new Node();
+			System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+			System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+			labels = newLabels;
+			children = newChildren;
+			return newChildren[insertAt];
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package com.example.APIGateway.filters;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.example.APIGateway.util.TokenBucketLimiter;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Limits requests per user or per client IP with the node-local
+ * {@link TokenBucketLimiter}, so no Redis is needed. Each route sets its own
+ * rate, burst and key, e.g. {@code RateLimitFilter=10, 20, USER}. Users are
+ * identified by the subject that {@link AuthenticationFilter} verified, so it
+ * must come first on the route; requests without one are limited by IP.
+ * Limited requests get a pre-built 429 with Retry-After. Limits apply per
+ * gateway node.
+ * <p>
+ * Behind load balancers, set {@code gateway.rate-limit.trusted-proxies} to the
+ * number of proxies that append to X-Forwarded-For; the client is the entry
+ * just before theirs. The header is ignored by default, since clients can
+ * forge it. IPv6 clients are limited per /64, the block one client usually
+ * holds.
+ */
+@Component
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+
+    private static final byte[] TOO_MANY_REQUESTS_BODY = "{\"status\":429,\"error\":\"too many requests\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    @Autowired
+    private TokenBucketLimiter limiter;
+
+    @Value("${gateway.rate-limit.trusted-proxies:0}")
+    private int trustedProxies;
+
+    public RateLimitFilter() {
+        super(Config.class);
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("replenishRate", "burstCapacity", "key");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        if (config.getReplenishRate() <= 0 || config.getBurstCapacity() < 1) {
+            throw new IllegalArgumentException("replenishRate must be positive and burstCapacity at least 1");
+        }
+        return (exchange, chain) -> {
+            long waitNanos = limiter.tryAcquire(bucketKey(exchange, config.getKey()), config.getReplenishRate(),
+                    config.getBurstCapacity());
+            if (waitNanos == 0) {
+                return chain.filter(exchange);
+            }
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            HttpHeaders headers = response.getHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setContentLength(TOO_MANY_REQUESTS_BODY.length);
+            long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999) / TimeUnit.SECONDS.toNanos(1));
+            headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(TOO_MANY_REQUESTS_BODY)));
+        };
+    }
+
+    private String bucketKey(ServerWebExchange exchange, KeyType keyType) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route == null ? "" : route.getId();
+        if (keyType == KeyType.USER) {
+            String user = exchange.getAttribute(AuthenticationFilter.USER_ATTRIBUTE);
+            if (user != null) {
+                return routeId + "|user|" + user;
+            }
+        }
+        return routeId + "|ip|" + clientAddress(exchange.getRequest());
+    }
+
+    private String clientAddress(ServerHttpRequest request) {
+        if (trustedProxies > 0) {
+            List<String> forwarded = request.getHeaders().get(X_FORWARDED_FOR);
+            if (forwarded != null && !forwarded.isEmpty()) {
+                String[] hops = String.join(",", forwarded).split(",");
+                String client = hops[Math.max(0, hops.length - trustedProxies)].trim();
+                if (!client.isEmpty()) {
+                    return addressKey(client);
+                }
+            }
+        }
+        InetSocketAddress remote = request.getRemoteAddress();
+        return remote == null || remote.getAddress() == null ? "unknown" : addressKey(remote.getAddress());
+    }
+
+    private static String addressKey(String address) {
+        // Only IPv6 literals are parsed, so a forwarded hostname never triggers a DNS lookup
+        if (address.indexOf(':') >= 0
+                && address.chars().allMatch(c -> c == ':' || c == '.' || Character.digit(c, 16) >= 0)) {
+            try {
+                return addressKey(InetAddress.getByName(address));
+            } catch (UnknownHostException e) {
+                return address;
+            }
+        }
+        return address;
+    }
+
+    private static String addressKey(InetAddress address) {
+        byte[] bytes = address.getAddress();
+        if (bytes.length != 16) {
+            return address.getHostAddress();
+        }
+        StringBuilder prefix = new StringBuilder(24);
+        for (int i = 0; i < 8; i += 2) {
+            prefix.append(Integer.toHexString((bytes[i] & 0xff) << 8 | bytes[i + 1] & 0xff)).append(':');
+        }
+        return prefix.append(":/64").toString();
+    }
+
+    public enum KeyType {
+        USER, IP
+    }
+
+    public static class Config {
+
+        // Tokens added per second
+        private double replenishRate = 10;
+
+        // Requests allowed in a burst
+        private long burstCapacity = 20;
+
+        private KeyType key = KeyType.USER;
+
+        public double getReplenishRate() {
+            return replenishRate;
+        }
+
+        public void setReplenishRate(double replenishRate) {
+            this.replenishRate = replenishRate;
+        }
+
+        public long getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public void setBurstCapacity(long burstCapacity) {
+            this.burstCapacity = burstCapacity;
+        }
+
+        public KeyType getKey() {
+            return key;
+        }
+
+        public void setKey(KeyType key) {
+            this.key = key;
+        }
+    }
+}
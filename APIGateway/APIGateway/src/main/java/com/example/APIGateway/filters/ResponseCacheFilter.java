@@ -0,0 +1,397 @@
+package com.example.APIGateway.filters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Caches successful GET responses of a route in the gateway, for idempotent
+ * reads such as the service and staff catalogs. Entries are shared by all
+ * clients, so the filter belongs on routes serving public data only.
+ * <p>
+ * Upstream headers are honored: {@code no-store}, {@code private} and any
+ * {@code Vary} other than Accept-Encoding keep a response out of the cache,
+ * and {@code s-maxage} or {@code max-age} set how long it stays fresh, falling
+ * back to the route's {@code ttlSeconds}. A stale entry with an ETag is
+ * revalidated with a conditional request; the headers of a 304 are merged
+ * into the entry, and if they make it uncacheable the entry is dropped and the
+ * client's own request is sent upstream instead. Clients sending a matching
+ * If-None-Match get a 304 from the gateway. Responses larger than
+ * {@code gateway.response-cache.max-entry-bytes} are streamed through as they
+ * arrive and never cached.
+ * <p>
+ * Concurrent misses for the same key are coalesced: one request goes upstream
+ * and the others wait for its response. All routes share one cache bounded by
+ * {@code gateway.response-cache.max-bytes} of body and headers; hit, miss and
+ * eviction counters are published as the {@code gatewayResponses} cache
+ * metrics.
+ */
+@Component
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config>
+        implements MeterBinder {
+
+    private final Cache<CacheKey, CachedResponse> cache;
+
+    private final Map<CacheKey, Sinks.One<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final long maxEntryBytes;
+
+    public ResponseCacheFilter(@Value("${gateway.response-cache.max-bytes:67108864}") long maxBytes,
+            @Value("${gateway.response-cache.max-stale-seconds:600}") long maxStaleSeconds,
+            @Value("${gateway.response-cache.max-entry-bytes:1048576}") long maxEntryBytes) {
+        super(Config.class);
+        // A cached body is a single array
+        this.maxEntryBytes = Math.min(maxEntryBytes, Integer.MAX_VALUE - 8);
+        this.cache = Caffeine.newBuilder().maximumWeight(maxBytes)
+                .weigher((CacheKey key, CachedResponse response) -> response.weight())
+                .expireAfterWrite(maxStaleSeconds, TimeUnit.SECONDS).recordStats().build();
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("ttlSeconds");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        // Ahead of the write filter, so the upstream body is written through this filter's response
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            String requestCacheControl = request.getHeaders().getCacheControl();
+            if (request.getMethod() != HttpMethod.GET || contains(requestCacheControl, "no-store")) {
+                return chain.filter(exchange);
+            }
+            CacheKey key = CacheKey.of(exchange);
+            // Copied up front: mutating the request below also changes the original's headers
+            List<String> clientETags = List.copyOf(request.getHeaders().getIfNoneMatch());
+            List<String> clientIfModifiedSince = request.getHeaders().getOrEmpty(HttpHeaders.IF_MODIFIED_SINCE);
+            CachedResponse cached = cache.getIfPresent(key);
+            if (cached != null && cached.isFresh() && !contains(requestCacheControl, "no-cache")) {
+                return writeCached(exchange, cached, clientETags);
+            }
+
+            Sinks.One<CachedResponse> leader = Sinks.one();
+            Sinks.One<CachedResponse> existing = inFlight.putIfAbsent(key, leader);
+            if (existing != null) {
+                // Another request is already fetching this key; reuse its response if it was cacheable
+                return existing.asMono()
+                        .map(response -> writeCached(exchange, response, clientETags))
+                        .defaultIfEmpty(Mono.defer(() -> chain.filter(exchange)))
+                        .flatMap(write -> write);
+            }
+
+            CachingResponse response = new CachingResponse(exchange, key, cached, config, leader, clientETags);
+            ServerHttpRequest upstreamRequest = request.mutate().headers(headers -> {
+                // Fetch a full response to cache, or revalidate what we already have
+                headers.remove(HttpHeaders.IF_NONE_MATCH);
+                headers.remove(HttpHeaders.IF_MODIFIED_SINCE);
+                if (cached != null && cached.etag() != null) {
+                    headers.setIfNoneMatch(cached.etag());
+                }
+            }).build();
+            return chain.filter(exchange.mutate().request(upstreamRequest).response(response).build())
+                    .then(Mono.defer(() -> response.uncacheable
+                            ? passThrough(exchange, chain, clientETags, clientIfModifiedSince)
+                            : Mono.empty()))
+                    .doFinally(signal -> response.complete(null));
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+
+    /**
+     * Sends the client's own request upstream again, after a revalidation
+     * turned out uncacheable, so the client gets the upstream's answer rather
+     * than the dropped entry.
+     */
+    private static Mono<Void> passThrough(ServerWebExchange exchange, GatewayFilterChain chain,
+            List<String> clientETags, List<String> clientIfModifiedSince) {
+        exchange.getAttributes().remove(ServerWebExchangeUtils.GATEWAY_ALREADY_ROUTED_ATTR);
+        exchange.getResponse().getHeaders().clear();
+        ServerHttpRequest request = exchange.getRequest().mutate().headers(headers -> {
+            headers.remove(HttpHeaders.IF_NONE_MATCH);
+            if (!clientETags.isEmpty()) {
+                headers.setIfNoneMatch(clientETags);
+            }
+            if (!clientIfModifiedSince.isEmpty()) {
+                headers.put(HttpHeaders.IF_MODIFIED_SINCE, clientIfModifiedSince);
+            }
+        }).build();
+        return chain.filter(exchange.mutate().request(request).build());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "gatewayResponses");
+    }
+
+    private static Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached,
+            List<String> clientETags) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().clear();
+        response.getHeaders().putAll(cached.headers());
+        if (cached.etag() != null && clientETags.contains(cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            response.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    private static boolean contains(String cacheControl, String directive) {
+        return cacheControl != null && cacheControl.toLowerCase().contains(directive);
+    }
+
+    /**
+     * Returns when the upstream response stops being fresh, or -1 if it must not
+     * be cached at all.
+     */
+    static long freshUntil(HttpHeaders headers, long now, long defaultTtlSeconds) {
+        for (String vary : headers.getVary()) {
+            if (!HttpHeaders.ACCEPT_ENCODING.equalsIgnoreCase(vary.strip())) {
+                return -1;
+            }
+        }
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl == null) {
+            return now + TimeUnit.SECONDS.toMillis(defaultTtlSeconds);
+        }
+        long maxAge = -1;
+        long sharedMaxAge = -1;
+        boolean noCache = false;
+        for (String directive : cacheControl.toLowerCase().split(",")) {
+            directive = directive.strip();
+            if (directive.equals("no-store") || directive.equals("private")) {
+                return -1;
+            }
+            if (directive.equals("no-cache")) {
+                // Cacheable, but must be revalidated before every use
+                noCache = true;
+            }
+            if (directive.startsWith("s-maxage=")) {
+                sharedMaxAge = parseSeconds(directive.substring(9));
+            }
+            if (directive.startsWith("max-age=")) {
+                maxAge = parseSeconds(directive.substring(8));
+            }
+        }
+        if (noCache) {
+            return now;
+        }
+        long ttlSeconds = sharedMaxAge >= 0 ? sharedMaxAge : maxAge >= 0 ? maxAge : defaultTtlSeconds;
+        return now + TimeUnit.SECONDS.toMillis(ttlSeconds);
+    }
+
+    private static long parseSeconds(String value) {
+        try {
+            return Math.max(0, Long.parseLong(value.strip()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Captures the upstream response on its way to the client, stores it when
+     * cacheable and hands it to the requests waiting on the same key.
+     */
+    private final class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final ServerWebExchange exchange;
+        private final CacheKey key;
+        private final CachedResponse stale;
+        private final Config config;
+        private final Sinks.One<CachedResponse> leader;
+        private final List<String> clientETags;
+
+        // Set when a 304 made the entry uncacheable; the request is then passed through
+        private boolean uncacheable;
+
+        CachingResponse(ServerWebExchange exchange, CacheKey key, CachedResponse stale, Config config,
+                Sinks.One<CachedResponse> leader, List<String> clientETags) {
+            super(exchange.getResponse());
+            this.exchange = exchange;
+            this.key = key;
+            this.stale = stale;
+            this.config = config;
+            this.leader = leader;
+            this.clientETags = clientETags;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            long now = System.currentTimeMillis();
+            if (getStatusCode() == HttpStatus.NOT_MODIFIED && stale != null) {
+                // The 304's headers replace the stored ones, including Cache-Control and ETag
+                HttpHeaders merged = new HttpHeaders();
+                merged.putAll(stale.headers());
+                merged.putAll(getHeaders());
+                long freshUntil = freshUntil(merged, now, config.getTtlSeconds());
+                Mono<Void> drain = Flux.from(body).doOnNext(DataBufferUtils::release).then();
+                if (freshUntil < 0) {
+                    cache.invalidate(key);
+                    uncacheable = true;
+                    complete(null);
+                    return drain;
+                }
+                CachedResponse revalidated = CachedResponse.of(merged, stale.body(), freshUntil);
+                cache.put(key, revalidated);
+                complete(revalidated);
+                return drain.then(Mono.defer(() -> writeCached(exchange, revalidated, clientETags)));
+            }
+            long freshUntil = getStatusCode() == HttpStatus.OK
+                    ? freshUntil(getHeaders(), now, config.getTtlSeconds())
+                    : -1;
+            if (freshUntil < 0 || getHeaders().getContentLength() > maxEntryBytes) {
+                complete(null);
+                return super.writeWith(body);
+            }
+            return cacheOrStream(body, freshUntil);
+        }
+
+        /**
+         * Holds the body until it completes within the entry limit and caches
+         * it, or, once it outgrows the limit, writes what was held followed by
+         * the rest of the body as it arrives.
+         */
+        private Mono<Void> cacheOrStream(Publisher<? extends DataBuffer> body, long freshUntil) {
+            List<DataBuffer> held = new ArrayList<>();
+            long[] size = { 0 };
+            boolean[] oversized = { false };
+            return Flux.<DataBuffer>from(body)
+                    // Cut once, before the first buffer past the limit: the held part, then the rest
+                    .windowUntil(buffer -> !oversized[0]
+                            && (oversized[0] = (size[0] += buffer.readableByteCount()) > maxEntryBytes), true)
+                    .index()
+                    .concatMap(window -> {
+                        if (window.getT1() == 0) {
+                            return window.getT2().doOnNext(held::add).then();
+                        }
+                        complete(null);
+                        List<DataBuffer> head = List.copyOf(held);
+                        held.clear();
+                        return super.writeWith(Flux.concat(Flux.fromIterable(head), window.getT2()));
+                    })
+                    .then(Mono.defer(() -> {
+                        if (oversized[0]) {
+                            // Already written, unless the very first buffer was over the limit
+                            return held.isEmpty() ? Mono.empty() : super.writeWith(Flux.fromIterable(held));
+                        }
+                        byte[] bytes = new byte[(int) size[0]];
+                        int offset = 0;
+                        for (DataBuffer buffer : held) {
+                            int length = buffer.readableByteCount();
+                            buffer.read(bytes, offset, length);
+                            offset += length;
+                            DataBufferUtils.release(buffer);
+                        }
+                        held.clear();
+                        CachedResponse response = CachedResponse.of(getHeaders(), bytes, freshUntil);
+                        cache.put(key, response);
+                        complete(response);
+                        return writeCached(exchange, response, clientETags);
+                    }))
+                    .doFinally(signal -> {
+                        if (signal != SignalType.ON_COMPLETE && !oversized[0]) {
+                            held.forEach(DataBufferUtils::release);
+                        }
+                    });
+        }
+
+        void complete(CachedResponse response) {
+            if (inFlight.remove(key, leader)) {
+                if (response == null) {
+                    leader.tryEmitEmpty();
+                } else {
+                    leader.tryEmitValue(response);
+                }
+            }
+        }
+    }
+
+    record CacheKey(String routeId, String uri, boolean gzip) {
+
+        static CacheKey of(ServerWebExchange exchange) {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String acceptEncoding = exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING);
+            return new CacheKey(route == null ? "" : route.getId(), exchange.getRequest().getURI().getRawPath()
+                    + (exchange.getRequest().getURI().getRawQuery() == null ? ""
+                            : "?" + exchange.getRequest().getURI().getRawQuery()),
+                    acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip"));
+        }
+    }
+
+    record CachedResponse(HttpHeaders headers, byte[] body, String etag, long freshUntil) {
+
+        static CachedResponse of(HttpHeaders upstream, byte[] body, long freshUntil) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(upstream);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            headers.remove(HttpHeaders.TRANSFER_ENCODING);
+            headers.remove(HttpHeaders.SET_COOKIE);
+            return new CachedResponse(HttpHeaders.readOnlyHttpHeaders(headers), body, upstream.getETag(), freshUntil);
+        }
+
+        CachedResponse withFreshUntil(long freshUntil) {
+            return new CachedResponse(headers, body, etag, freshUntil);
+        }
+
+        boolean isFresh() {
+            return System.currentTimeMillis() < freshUntil;
+        }
+
+        int weight() {
+            long weight = body.length + 64L;
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                weight += header.getKey().length() + header.getValue().toString().length();
+            }
+            return (int) Math.min(weight, Integer.MAX_VALUE);
+        }
+    }
+
+    public static class Config {
+
+        // Freshness when the upstream sends no max-age
+        private long ttlSeconds = 10;
+
+        public long getTtlSeconds() {
+            return ttlSeconds;
+        }
+
+        public void setTtlSeconds(long ttlSeconds) {
+            this.ttlSeconds = ttlSeconds;
+        }
+    }
+}
@@ -1,14 +1,27 @@
 package com.example.APIGateway.filters;
 
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
 import java.util.function.Predicate;
 
+/**
+ * Decides which requests need a bearer token. Paths under the prefixes in
+ * {@code gateway.open-endpoints} are open; the prefixes are compiled into a
+ * {@link PathPrefixMatcher} at startup and recompiled when the property
+ * changes through a configuration refresh.
+ */
 @Component
 public class RouteValidator {
 
+    public static final String OPEN_ENDPOINTS_PROPERTY = "gateway.open-endpoints";
+
     public static final List<String> openApiEndpoints = List.of(
             "/auth/register",
             "/auth/authenticate",
@@ -16,9 +29,32 @@ public class RouteValidator {
             
     );
 
+    private final Environment environment;
+
+    private volatile PathPrefixMatcher openEndpoints;
+
+    public RouteValidator(Environment environment) {
+        this.environment = environment;
+        reload();
+    }
+
     public Predicate<ServerHttpRequest> isSecured =
-            request -> openApiEndpoints
-                    .stream()
-                    .noneMatch(uri -> request.getURI().getPath().contains(uri));
+            request -> !openEndpoints.matches(request.getPath().value());
+
+    /**
+     * Recompiles the open endpoints from the environment.
+     */
+    public void reload() {
+        List<String> endpoints = Binder.get(environment)
+                .bind(OPEN_ENDPOINTS_PROPERTY, Bindable.listOf(String.class))
+                .orElse(openApiEndpoints);
+        openEndpoints = PathPrefixMatcher.compile(endpoints);
+    }
 
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().anyMatch(key -> key.startsWith(OPEN_ENDPOINTS_PROPERTY))) {
+            reload();
+        }
+    }
 }
@@ -4,6 +4,8 @@ import java.security.Key;
 
 import org.springframework.stereotype.Component;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -14,15 +16,19 @@ public class JwtUtil {
 
     public static final String SECRET = "5367566B59703373367639792F423F4528482B4D6251655468576D5A71347437";
 
+    // Decoded once; the parser is immutable and thread-safe, so every request shares it
+    private final Key signKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
 
-    public void validateToken(final String token) {
-        Jwts.parserBuilder().setSigningKey(getSignKey()).build().parseClaimsJws(token);
-    }
-
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(signKey).build();
 
 
-    private Key getSignKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * Verifies the token's signature and expiry.
+     *
+     * @return The token's claims.
+     * @throws io.jsonwebtoken.JwtException If the token is invalid or expired.
+     */
+    public Claims validateToken(final String token) {
+        return parser.parseClaimsJws(token).getBody();
     }
 }
@@ -0,0 +1,107 @@
+package com.example.APIGateway.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * In-memory token buckets for rate limiting on a single gateway node. Each
+ * bucket is one {@link AtomicLong} holding the time at which it will be full
+ * again (the GCRA form of a token bucket), updated with a CAS loop, so taking
+ * a token never locks. Buckets live in a striped {@link ConcurrentHashMap}
+ * bounded by {@code gateway.rate-limit.max-keys}. When a new key finds the
+ * table full, full buckets are swept out, at most once a second, which loses
+ * nothing since a full bucket behaves exactly like a new one. Buckets still in
+ * use are never dropped, so a client cannot refill its own bucket by flooding
+ * the table with new keys; while the table stays full, new keys share a single
+ * overflow bucket instead. The number of buckets is published as the
+ * {@code gateway.rate-limit.keys} gauge.
+ */
+@Component
+public class TokenBucketLimiter implements MeterBinder {
+
+	private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+	private final AtomicBoolean evicting = new AtomicBoolean();
+
+	// System.nanoTime() before which the table is not swept again
+	private final AtomicLong nextSweepAt = new AtomicLong(System.nanoTime());
+
+	// Shared by new keys while the table is full of buckets in use
+	private final AtomicLong overflow = new AtomicLong(System.nanoTime());
+
+	private final int maxKeys;
+
+	public TokenBucketLimiter(@Value("${gateway.rate-limit.max-keys:100000}") int maxKeys) {
+		this.maxKeys = maxKeys;
+	}
+
+	/**
+	 * Takes one token from the key's bucket.
+	 *
+	 * @param key           The bucket, e.g. route and user.
+	 * @param ratePerSecond Tokens added per second.
+	 * @param capacity      Maximum tokens in the bucket, i.e. the allowed burst.
+	 * @return 0 if a token was taken, otherwise the nanoseconds until one is
+	 *         available.
+	 */
+	public long tryAcquire(String key, double ratePerSecond, long capacity) {
+		// Saturate rather than overflow for tiny rates or huge bursts
+		long interval = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond));
+		long burst = interval > Long.MAX_VALUE / Math.max(1, capacity) ? Long.MAX_VALUE
+				: interval * Math.max(1, capacity);
+		long now = System.nanoTime();
+		AtomicLong fullAt = buckets.get(key);
+		if (fullAt == null) {
+			fullAt = admit(key, now);
+		}
+		while (true) {
+			long current = fullAt.get();
+			// Each token taken pushes the refill time out by one interval; at most burst ahead of now
+			long ahead = Math.max(0, current - now);
+			if (ahead > burst - interval) {
+				return ahead - (burst - interval);
+			}
+			if (fullAt.compareAndSet(current, now + ahead + interval)) {
+				return 0;
+			}
+		}
+	}
+
+	private AtomicLong admit(String key, long now) {
+		if (buckets.size() >= maxKeys) {
+			sweep(now);
+			if (buckets.size() >= maxKeys) {
+				return overflow;
+			}
+		}
+		return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+	}
+
+	private void sweep(long now) {
+		if (now - nextSweepAt.get() < 0 || !evicting.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			// A table of busy buckets would otherwise be scanned on every new key
+			nextSweepAt.set(now + TimeUnit.SECONDS.toNanos(1));
+			buckets.values().removeIf(fullAt -> fullAt.get() - now <= 0);
+		} finally {
+			evicting.set(false);
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("gateway.rate-limit.keys", buckets, ConcurrentHashMap::size)
+				.description("Rate-limit buckets held in memory").register(registry);
+	}
+}
@@ -0,0 +1,120 @@
+package com.example.APIGateway.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded cache of tokens whose signature has already been verified, so a
+ * client repeating the same bearer token skips the HMAC check and claims
+ * parsing. Entries are keyed by a SHA-256 digest of the token, never the token
+ * itself, and expire at the token's {@code exp}. Invalid tokens are not
+ * cached. Hit ratio is published as the {@code verifiedTokens} cache metrics
+ * and the cost of a full verification as the {@code gateway.token.validation}
+ * timer.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+	private final JwtUtil jwtUtil;
+
+	private final Cache<TokenKey, Claims> verified;
+
+	private Timer validationTimer;
+
+	public VerifiedTokenCache(JwtUtil jwtUtil, @Value("${gateway.token-cache.max-size:100000}") long maxSize,
+			@Value("${gateway.token-cache.max-ttl-seconds:3600}") long maxTtlSeconds) {
+		this.jwtUtil = jwtUtil;
+		long maxTtlNanos = Duration.ofSeconds(maxTtlSeconds).toNanos();
+		this.verified = Caffeine.newBuilder().maximumSize(maxSize).expireAfter(new UntilExpiration(maxTtlNanos))
+				.recordStats().build();
+	}
+
+	/**
+	 * Returns the claims of a valid token, verifying it only if it has not been
+	 * seen before.
+	 *
+	 * @throws io.jsonwebtoken.JwtException If the token is invalid or expired.
+	 */
+	public Claims validate(String token) {
+		return verified.get(TokenKey.of(token), key -> verify(token));
+	}
+
+	private Claims verify(String token) {
+		if (validationTimer == null) {
+			return jwtUtil.validateToken(token);
+		}
+		long start = System.nanoTime();
+		try {
+			return jwtUtil.validateToken(token);
+		} finally {
+			validationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, verified, "verifiedTokens");
+		validationTimer = Timer.builder("gateway.token.validation")
+				.description("Full signature verification of a bearer token").register(registry);
+	}
+
+	/**
+	 * 128 bits of the token's SHA-256 digest.
+	 */
+	private record TokenKey(long high, long low) {
+
+		static TokenKey of(String token) {
+			try {
+				ByteBuffer digest = ByteBuffer.wrap(
+						MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+				return new TokenKey(digest.getLong(), digest.getLong());
+			} catch (NoSuchAlgorithmException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	/**
+	 * Keeps an entry until its token's expiration, capped at the maximum TTL.
+	 */
+	private record UntilExpiration(long maxTtlNanos) implements Expiry<TokenKey, Claims> {
+
+		@Override
+		public long expireAfterCreate(TokenKey key, Claims claims, long currentTime) {
+			Date expiration = claims.getExpiration();
+			if (expiration == null) {
+				return maxTtlNanos;
+			}
+			long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+			return Math.max(0, Math.min(maxTtlNanos, Duration.ofMillis(remainingMillis).toNanos()));
+		}
+
+		@Override
+		public long expireAfterUpdate(TokenKey key, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+		@Override
+		public long expireAfterRead(TokenKey key, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
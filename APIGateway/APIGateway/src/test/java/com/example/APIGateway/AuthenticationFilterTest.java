@@ -0,0 +1,97 @@
+package com.example.APIGateway;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.APIGateway.filters.AuthenticationFilter;
+import com.example.APIGateway.filters.RouteValidator;
+import com.example.APIGateway.util.JwtUtil;
+import com.example.APIGateway.util.VerifiedTokenCache;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class AuthenticationFilterTest {
+
+	private final GatewayFilterChain chain = exchange -> Mono.empty();
+
+	private final Logger logger = (Logger) LoggerFactory.getLogger(AuthenticationFilter.class);
+
+	private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private GatewayFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		AuthenticationFilter factory = new AuthenticationFilter();
+		ReflectionTestUtils.setField(factory, "validator", new RouteValidator(new MockEnvironment()));
+		ReflectionTestUtils.setField(factory, "tokenCache", new VerifiedTokenCache(new JwtUtil(), 1000, 3600));
+		ReflectionTestUtils.setField(factory, "rejectionLogSeconds", 3600L);
+		factory.bindTo(registry);
+		filter = factory.apply(new AuthenticationFilter.Config());
+		appender.start();
+		logger.addAppender(appender);
+	}
+
+	@AfterEach
+	void tearDown() {
+		logger.detachAppender(appender);
+	}
+
+	@Test
+	void testRejectionsAreCountedByReason() {
+		// Act
+		MockServerWebExchange missing = send(null);
+		send("Bearer not-a-token");
+		send("Bearer not-a-token");
+
+		// Assert
+		assertEquals(HttpStatus.UNAUTHORIZED, missing.getResponse().getStatusCode());
+		assertEquals(1.0, registry.get("gateway.auth.rejected").tag("reason", "missing_header").functionCounter()
+				.count());
+		assertEquals(2.0, registry.get("gateway.auth.rejected").tag("reason", "invalid_token").functionCounter()
+				.count());
+	}
+
+	@Test
+	void testAtMostOneWarningPerInterval() {
+		// Act: a burst well inside one interval
+		for (int i = 0; i < 50; i++) {
+			send("Bearer not-a-token");
+		}
+
+		// Assert
+		List<ILoggingEvent> warnings = appender.list.stream().filter(event -> event.getLevel() == Level.WARN).toList();
+		assertEquals(1, warnings.size());
+	}
+
+	private MockServerWebExchange send(String authorization) {
+		MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/bookings");
+		if (authorization != null) {
+			request.header(HttpHeaders.AUTHORIZATION, authorization);
+		}
+		MockServerWebExchange exchange = MockServerWebExchange.from(request);
+		filter.filter(exchange, chain).block();
+		return exchange;
+	}
+}
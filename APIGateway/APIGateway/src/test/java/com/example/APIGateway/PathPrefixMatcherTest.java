@@ -0,0 +1,34 @@
+package com.example.APIGateway;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.APIGateway.filters.PathPrefixMatcher;
+
+class PathPrefixMatcherTest {
+
+	private final PathPrefixMatcher matcher = PathPrefixMatcher
+			.compile(List.of("/auth/register", "/auth/authenticate", "/eureka/", " "));
+
+	@Test
+	void testMatchesOnSegmentBoundary() {
+		assertTrue(matcher.matches("/auth/register"));
+		assertTrue(matcher.matches("/auth/register/confirm"));
+		assertTrue(matcher.matches("/eureka"));
+		assertTrue(matcher.matches("/eureka/apps"));
+	}
+
+	@Test
+	void testRejectsPartialAndEmbeddedMatches() {
+		assertFalse(matcher.matches("/auth/registered"));
+		assertFalse(matcher.matches("/auth/reg"));
+		assertFalse(matcher.matches("/api/users/auth/register-anything"));
+		assertFalse(matcher.matches("/api/users/auth/register"));
+		assertFalse(matcher.matches("/"));
+		assertFalse(matcher.matches(""));
+	}
+}
@@ -0,0 +1,123 @@
+package com.example.APIGateway;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.net.InetSocketAddress;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.APIGateway.filters.AuthenticationFilter;
+import com.example.APIGateway.filters.RateLimitFilter;
+import com.example.APIGateway.util.TokenBucketLimiter;
+
+import reactor.core.publisher.Mono;
+
+class RateLimitFilterTest {
+
+	private final GatewayFilterChain chain = exchange -> Mono.empty();
+
+	private RateLimitFilter factory;
+
+	@BeforeEach
+	void setUp() {
+		factory = new RateLimitFilter();
+		ReflectionTestUtils.setField(factory, "limiter", new TokenBucketLimiter(1000));
+	}
+
+	@Test
+	void testBurstAllowedThenLimited() {
+		// Arrange: one token per minute, burst of 3
+		GatewayFilter filter = factory.apply(config(1.0 / 60, 3, RateLimitFilter.KeyType.IP));
+
+		// Act & Assert
+		for (int i = 0; i < 3; i++) {
+			assertNull(send(filter, "10.0.0.1", null).getResponse().getStatusCode());
+		}
+		MockServerWebExchange limited = send(filter, "10.0.0.1", null);
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS, limited.getResponse().getStatusCode());
+		assertEquals("60", limited.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+		assertNull(send(filter, "10.0.0.2", null).getResponse().getStatusCode());
+	}
+
+	@Test
+	void testUsersLimitedSeparatelyOnSharedAddress() {
+		// Arrange
+		GatewayFilter filter = factory.apply(config(1.0 / 60, 1, RateLimitFilter.KeyType.USER));
+
+		// Act & Assert
+		assertNull(send(filter, "10.0.0.1", "alice").getResponse().getStatusCode());
+		assertNull(send(filter, "10.0.0.1", "bob").getResponse().getStatusCode());
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS, send(filter, "10.0.0.1", "alice").getResponse().getStatusCode());
+	}
+
+	@Test
+	void testForwardedForIgnoredUnlessProxiesTrusted() {
+		// Arrange
+		GatewayFilter filter = factory.apply(config(1.0 / 60, 1, RateLimitFilter.KeyType.IP));
+
+		// Act & Assert: a forged header does not get a fresh bucket
+		assertNull(send(filter, "10.0.0.1", null, "198.51.100.1").getResponse().getStatusCode());
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS,
+				send(filter, "10.0.0.1", null, "198.51.100.2").getResponse().getStatusCode());
+	}
+
+	@Test
+	void testClientBehindTrustedProxyLimitedByForwardedAddress() {
+		// Arrange: one load balancer, which appends the address it saw
+		ReflectionTestUtils.setField(factory, "trustedProxies", 1);
+		GatewayFilter filter = factory.apply(config(1.0 / 60, 1, RateLimitFilter.KeyType.IP));
+
+		// Act & Assert: clients sharing the balancer are apart, a forged first hop is ignored
+		assertNull(send(filter, "10.0.0.1", null, "198.51.100.1").getResponse().getStatusCode());
+		assertNull(send(filter, "10.0.0.1", null, "198.51.100.2").getResponse().getStatusCode());
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS,
+				send(filter, "10.0.0.1", null, "203.0.113.9, 198.51.100.1").getResponse().getStatusCode());
+	}
+
+	@Test
+	void testIpv6ClientsLimitedPerSlash64() {
+		// Arrange
+		GatewayFilter filter = factory.apply(config(1.0 / 60, 1, RateLimitFilter.KeyType.IP));
+
+		// Act & Assert
+		assertNull(send(filter, "2001:db8:0:1::1", null).getResponse().getStatusCode());
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS,
+				send(filter, "2001:db8:0:1:ffff::2", null).getResponse().getStatusCode());
+		assertNull(send(filter, "2001:db8:0:2::1", null).getResponse().getStatusCode());
+	}
+
+	private static RateLimitFilter.Config config(double rate, long burst, RateLimitFilter.KeyType key) {
+		RateLimitFilter.Config config = new RateLimitFilter.Config();
+		config.setReplenishRate(rate);
+		config.setBurstCapacity(burst);
+		config.setKey(key);
+		return config;
+	}
+
+	private MockServerWebExchange send(GatewayFilter filter, String ip, String user) {
+		return send(filter, ip, user, null);
+	}
+
+	private MockServerWebExchange send(GatewayFilter filter, String ip, String user, String forwardedFor) {
+		MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/bookings")
+				.remoteAddress(new InetSocketAddress(ip, 40000));
+		if (forwardedFor != null) {
+			request.header("X-Forwarded-For", forwardedFor);
+		}
+		MockServerWebExchange exchange = MockServerWebExchange.from(request);
+		if (user != null) {
+			exchange.getAttributes().put(AuthenticationFilter.USER_ATTRIBUTE, user);
+		}
+		filter.filter(exchange, chain).block();
+		return exchange;
+	}
+}
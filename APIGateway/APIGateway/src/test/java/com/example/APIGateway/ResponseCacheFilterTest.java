@@ -0,0 +1,228 @@
+package com.example.APIGateway;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.example.APIGateway.filters.ResponseCacheFilter;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class ResponseCacheFilterTest {
+
+	private static final String ETAG = "\"v1\"";
+
+	private static final String BODY = "[{\"id\":1}]";
+
+	private ResponseCacheFilter factory = new ResponseCacheFilter(1_000_000, 600, 1_000);
+
+	// If-None-Match seen by the upstream on each call
+	private final List<String> upstreamCalls = new ArrayList<>();
+
+	private String cacheControl;
+
+	private Duration upstreamDelay = Duration.ZERO;
+
+	private final GatewayFilterChain upstream = exchange -> Mono.delay(upstreamDelay).then(Mono.defer(() -> {
+		String ifNoneMatch = exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+		upstreamCalls.add(String.valueOf(ifNoneMatch));
+		ServerHttpResponse response = exchange.getResponse();
+		response.getHeaders().setETag(ETAG);
+		if (cacheControl != null) {
+			response.getHeaders().setCacheControl(cacheControl);
+		}
+		if (ETAG.equals(ifNoneMatch)) {
+			response.setStatusCode(HttpStatus.NOT_MODIFIED);
+			return response.writeWith(Flux.empty());
+		}
+		response.setStatusCode(HttpStatus.OK);
+		response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+		// Chunked, with no Content-Length, like a streamed upstream body
+		byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+		return response.writeWith(Flux.range(0, (body.length + 3) / 4).map(chunk -> response.bufferFactory()
+				.wrap(Arrays.copyOfRange(body, chunk * 4, Math.min(body.length, chunk * 4 + 4)))));
+	}));
+
+	@Test
+	void testFreshResponseServedFromCache() {
+		// Arrange
+		GatewayFilter filter = filter(60);
+		get(filter, null);
+
+		// Act
+		MockServerWebExchange second = get(filter, null);
+
+		// Assert
+		assertEquals(1, upstreamCalls.size());
+		assertEquals(HttpStatus.OK, second.getResponse().getStatusCode());
+		assertEquals(BODY, second.getResponse().getBodyAsString().block());
+		assertEquals(ETAG, second.getResponse().getHeaders().getETag());
+	}
+
+	@Test
+	void testStaleResponseRevalidatedWithETag() {
+		// Arrange
+		GatewayFilter filter = filter(0);
+		get(filter, null);
+
+		// Act
+		MockServerWebExchange second = get(filter, null);
+		MockServerWebExchange conditional = get(filter, ETAG);
+
+		// Assert: the upstream only answers 304 after the first fetch
+		assertEquals(List.of("null", ETAG, ETAG), upstreamCalls);
+		assertEquals(HttpStatus.OK, second.getResponse().getStatusCode());
+		assertEquals(BODY, second.getResponse().getBodyAsString().block());
+		assertEquals(HttpStatus.NOT_MODIFIED, conditional.getResponse().getStatusCode());
+	}
+
+	@Test
+	void testNotModifiedHeadersMergedIntoEntry() {
+		// Arrange
+		cacheControl = "max-age=0";
+		GatewayFilter filter = filter(0);
+		get(filter, null);
+
+		// Act: the revalidation extends the entry's lifetime
+		cacheControl = "max-age=60";
+		MockServerWebExchange revalidated = get(filter, null);
+		MockServerWebExchange cached = get(filter, null);
+
+		// Assert
+		assertEquals(List.of("null", ETAG), upstreamCalls);
+		assertEquals("max-age=60", revalidated.getResponse().getHeaders().getCacheControl());
+		assertEquals(BODY, cached.getResponse().getBodyAsString().block());
+		assertEquals("max-age=60", cached.getResponse().getHeaders().getCacheControl());
+	}
+
+	@Test
+	void testUncacheableRevalidationPassesRequestThrough() {
+		// Arrange
+		GatewayFilter filter = filter(0);
+		get(filter, null);
+
+		// Act
+		cacheControl = "no-store";
+		MockServerWebExchange passedThrough = get(filter, null);
+		get(filter, null);
+
+		// Assert: the 304 drops the entry and the client's own request goes upstream
+		assertEquals(List.of("null", ETAG, "null", "null"), upstreamCalls);
+		assertEquals(HttpStatus.OK, passedThrough.getResponse().getStatusCode());
+		assertEquals("no-store", passedThrough.getResponse().getHeaders().getCacheControl());
+		assertEquals(BODY, passedThrough.getResponse().getBodyAsString().block());
+	}
+
+	@Test
+	void testOversizedResponseStreamedNotCached() {
+		// Arrange: the limit falls inside the second chunk
+		factory = new ResponseCacheFilter(1_000_000, 600, 6);
+		GatewayFilter filter = filter(60);
+
+		// Act
+		MockServerWebExchange first = get(filter, null);
+		MockServerWebExchange second = get(filter, null);
+
+		// Assert
+		assertEquals(2, upstreamCalls.size());
+		assertEquals(BODY, first.getResponse().getBodyAsString().block());
+		assertEquals(BODY, second.getResponse().getBodyAsString().block());
+	}
+
+	@Test
+	void testFirstChunkOverLimitStreamed() {
+		// Arrange
+		factory = new ResponseCacheFilter(1_000_000, 600, 2);
+		GatewayFilter filter = filter(60);
+
+		// Act
+		MockServerWebExchange exchange = get(filter, null);
+
+		// Assert
+		assertEquals(BODY, exchange.getResponse().getBodyAsString().block());
+		get(filter, null);
+		assertEquals(2, upstreamCalls.size());
+	}
+
+	@Test
+	void testNoStoreNotCached() {
+		// Arrange
+		cacheControl = "no-store";
+		GatewayFilter filter = filter(60);
+
+		// Act
+		get(filter, null);
+		get(filter, null);
+
+		// Assert
+		assertEquals(2, upstreamCalls.size());
+	}
+
+	@Test
+	void testConcurrentMissesCoalesced() {
+		// Arrange
+		upstreamDelay = Duration.ofMillis(200);
+		GatewayFilter filter = filter(60);
+		List<MockServerWebExchange> exchanges = List.of(exchange(null), exchange(null), exchange(null));
+
+		// Act
+		Flux.fromIterable(exchanges).flatMap(exchange -> filter.filter(exchange, upstream)).blockLast();
+
+		// Assert
+		assertEquals(1, upstreamCalls.size());
+		for (MockServerWebExchange exchange : exchanges) {
+			assertEquals(BODY, exchange.getResponse().getBodyAsString().block());
+		}
+	}
+
+	@Test
+	void testPostPassesThrough() {
+		// Arrange
+		GatewayFilter filter = filter(60);
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/services"));
+
+		// Act
+		filter.filter(exchange, upstream).block();
+		filter.filter(MockServerWebExchange.from(MockServerHttpRequest.post("/api/services")), upstream).block();
+
+		// Assert
+		assertEquals(2, upstreamCalls.size());
+		assertNull(exchange.getResponse().getHeaders().getCacheControl());
+	}
+
+	private GatewayFilter filter(long ttlSeconds) {
+		ResponseCacheFilter.Config config = new ResponseCacheFilter.Config();
+		config.setTtlSeconds(ttlSeconds);
+		return factory.apply(config);
+	}
+
+	private MockServerWebExchange get(GatewayFilter filter, String ifNoneMatch) {
+		MockServerWebExchange exchange = exchange(ifNoneMatch);
+		filter.filter(exchange, upstream).block();
+		return exchange;
+	}
+
+	private static MockServerWebExchange exchange(String ifNoneMatch) {
+		MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/services");
+		if (ifNoneMatch != null) {
+			request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+		}
+		return MockServerWebExchange.from(request);
+	}
+}
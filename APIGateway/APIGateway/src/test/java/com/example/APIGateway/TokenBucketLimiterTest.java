@@ -0,0 +1,73 @@
+package com.example.APIGateway;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.APIGateway.util.TokenBucketLimiter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenBucketLimiterTest {
+
+	@Test
+	void testKeySpaceBoundedWithoutDroppingBusyBuckets() {
+		// Arrange
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		TokenBucketLimiter limiter = new TokenBucketLimiter(100);
+		limiter.bindTo(registry);
+		for (int i = 0; i < 100; i++) {
+			assertEquals(0, limiter.tryAcquire("ip|" + i, 0.001, 1));
+		}
+
+		// Act: a flood of new keys
+		for (int i = 100; i < 1000; i++) {
+			limiter.tryAcquire("ip|" + i, 0.001, 1);
+		}
+
+		// Assert: the drained buckets are still drained, the newcomers shared one
+		assertTrue(registry.get("gateway.rate-limit.keys").gauge().value() <= 100);
+		assertTrue(limiter.tryAcquire("ip|0", 0.001, 1) > 0);
+		assertTrue(limiter.tryAcquire("ip|1000", 0.001, 1) > 0);
+	}
+
+	@Test
+	void testFullBucketsMakeRoomForNewKeys() {
+		// Arrange: every bucket refills within a nanosecond-scale interval
+		TokenBucketLimiter limiter = new TokenBucketLimiter(100);
+		for (int i = 0; i < 100; i++) {
+			assertEquals(0, limiter.tryAcquire("ip|" + i, 1e9, 1));
+		}
+
+		// Act & Assert
+		assertEquals(0, limiter.tryAcquire("ip|new", 0.001, 1));
+		assertTrue(limiter.tryAcquire("ip|new", 0.001, 1) > 0);
+	}
+
+	@Test
+	void testHugeBurstDoesNotOverflow() {
+		// Arrange: one token a day, interval * capacity far beyond a long
+		TokenBucketLimiter limiter = new TokenBucketLimiter(100);
+
+		// Act & Assert
+		assertEquals(0, limiter.tryAcquire("user|alice", 1.0 / 86400, Long.MAX_VALUE / 2));
+		assertEquals(0, limiter.tryAcquire("user|alice", 1.0 / 86400, Long.MAX_VALUE / 2));
+		assertEquals(0, limiter.tryAcquire("user|bob", 1e-12, 1));
+		assertTrue(limiter.tryAcquire("user|bob", 1e-12, 1) > 0);
+	}
+
+	@Test
+	void testRefillsOverTime() throws InterruptedException {
+		// Arrange: 20 tokens per second, burst of 1
+		TokenBucketLimiter limiter = new TokenBucketLimiter(100);
+		assertEquals(0, limiter.tryAcquire("user|alice", 20, 1));
+		assertTrue(limiter.tryAcquire("user|alice", 20, 1) > 0);
+
+		// Act
+		Thread.sleep(60);
+
+		// Assert
+		assertEquals(0, limiter.tryAcquire("user|alice", 20, 1));
+	}
+}
@@ -0,0 +1,76 @@
+package com.example.APIGateway;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.APIGateway.util.JwtUtil;
+import com.example.APIGateway.util.VerifiedTokenCache;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VerifiedTokenCacheTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private JwtUtil jwtUtil;
+
+	private VerifiedTokenCache tokenCache;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = spy(new JwtUtil());
+		tokenCache = new VerifiedTokenCache(jwtUtil, 100, 3600);
+		tokenCache.bindTo(registry);
+	}
+
+	@Test
+	void testRepeatedTokenVerifiedOnce() {
+		// Arrange
+		String token = token("alice", 60_000);
+
+		// Act
+		tokenCache.validate(token);
+		String subject = tokenCache.validate(token).getSubject();
+
+		// Assert
+		assertEquals("alice", subject);
+		verify(jwtUtil, times(1)).validateToken(token);
+		assertEquals(1, registry.get("gateway.token.validation").timer().count());
+	}
+
+	@Test
+	void testInvalidTokenNotCached() {
+		// Arrange
+		String token = token("alice", 60_000) + "x";
+
+		// Act & Assert
+		assertThrows(JwtException.class, () -> tokenCache.validate(token));
+		assertThrows(JwtException.class, () -> tokenCache.validate(token));
+		verify(jwtUtil, times(2)).validateToken(token);
+	}
+
+	@Test
+	void testExpiredTokenRejected() {
+		assertThrows(JwtException.class, () -> tokenCache.validate(token("alice", -1_000)));
+	}
+
+	private static String token(String subject, long validForMillis) {
+		return Jwts.builder().setSubject(subject).setIssuedAt(new Date())
+				.setExpiration(new Date(System.currentTimeMillis() + validForMillis))
+				.signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(JwtUtil.SECRET)), SignatureAlgorithm.HS256)
+				.compact();
+	}
+}
@@ -0,0 +1,73 @@
+package com.example.APIGateway.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.APIGateway.util.JwtUtil;
+import com.example.APIGateway.util.VerifiedTokenCache;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JMH throughput of gateway token validation on a single thread, i.e. per core:
+ * the shared key and parser in {@link JwtUtil} against decoding the secret and
+ * building a parser for every token as before, and a repeated token served from
+ * the {@link VerifiedTokenCache}. Run it with
+ * {@code mvn -Pbenchmark -DskipTests test -Djmh.args=JwtValidationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(1)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+	private final JwtUtil jwtUtil = new JwtUtil();
+
+	private final VerifiedTokenCache tokenCache = new VerifiedTokenCache(jwtUtil, 100_000, 3600);
+
+	private String token;
+
+	@Setup
+	public void setUp() {
+		token = Jwts.builder().setSubject("benchmark").setIssuedAt(new Date())
+				.setExpiration(new Date(System.currentTimeMillis() + 3_600_000))
+				.signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(JwtUtil.SECRET)), SignatureAlgorithm.HS256)
+				.compact();
+	}
+
+	@Benchmark
+	public Claims cachedParser() {
+		return jwtUtil.validateToken(token);
+	}
+
+	@Benchmark
+	public Claims verifiedTokenCache() {
+		return tokenCache.validate(token);
+	}
+
+	@Benchmark
+	public Jws<Claims> parserPerCall() {
+		return Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(JwtUtil.SECRET))).build()
+				.parseClaimsJws(token);
+	}
+}
@@ -0,0 +1,61 @@
+package com.example.APIGateway.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.APIGateway.util.TokenBucketLimiter;
+
+/**
+ * JMH cost per request of the {@link TokenBucketLimiter} with 50k distinct
+ * keys, taking tokens for random keys, and for a single hot key. Single
+ * threaded so the numbers are per core. Run it with
+ * {@code mvn -Pbenchmark -DskipTests test -Djmh.args=RateLimitBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(1)
+@Fork(1)
+public class RateLimitBenchmark {
+
+	@Param("50000")
+	private int keys;
+
+	private String[] keyNames;
+
+	private TokenBucketLimiter limiter;
+
+	@Setup
+	public void setUp() {
+		limiter = new TokenBucketLimiter(100_000);
+		keyNames = new String[keys];
+		for (int i = 0; i < keys; i++) {
+			keyNames[i] = "route|user|user" + i;
+		}
+	}
+
+	@Benchmark
+	public long distinctKeys() {
+		return limiter.tryAcquire(keyNames[ThreadLocalRandom.current().nextInt(keys)], 1_000_000, 1_000);
+	}
+
+	@Benchmark
+	public long sharedKey() {
+		return limiter.tryAcquire(keyNames[0], 1_000_000, 1_000);
+	}
+}
@@ -0,0 +1,18 @@
+package com.app.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import com.app.dto.ServiceDto;
+
+/**
+ * Feign client for the Service Management Microservice, resolved through
+ * Eureka.
+ */
+@FeignClient(name = "ServiceManagementMicroservice")
+public interface ServiceClient {
+
+	@GetMapping("/api/services/{id}")
+	ServiceDto getServiceById(@PathVariable("id") Long id);
+}
@@ -0,0 +1,19 @@
+package com.app.client;
+
+import java.util.List;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.app.dto.StaffDto;
+
+/**
+ * Feign client for the Staff Management Microservice, resolved through Eureka.
+ */
+@FeignClient(name = "StaffManagementMicroservice")
+public interface StaffClient {
+
+	@GetMapping("/api/staff")
+	List<StaffDto> getStaffByService(@RequestParam("serviceId") Long serviceId);
+}
@@ -1,13 +1,25 @@
 package com.app.controller;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.app.dto.BatchBookingResultDto;
 import com.app.dto.BookingDto;
+import com.app.dto.BookingExportFormat;
+import com.app.dto.BookingFilter;
+import com.app.dto.BookingPageDto;
+import com.app.dto.HoldDto;
+import com.app.dto.StaffAvailabilityDto;
 import com.app.service.BookingService;
+import com.app.service.IdempotencyStore;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -19,19 +31,70 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "Booking Controller", description = "API for managing bookings")
 public class BookingController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
     @PostMapping
-    @Operation(summary = "Create a new booking", description = "Creates a new booking and returns the created booking.")
+    @Operation(summary = "Create a new booking", description = "Creates a new booking and returns the created booking. Send an Idempotency-Key header to make retries safe: repeats return the first response.")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Booking created successfully")
+        @ApiResponse(responseCode = "200", description = "Booking created successfully"),
+        @ApiResponse(responseCode = "422", description = "Idempotency-Key reused with a different request")
     })
-    public ResponseEntity<BookingDto> createBooking(@RequestBody BookingDto bookingDto) {
-        BookingDto createdBooking = bookingService.createBooking(bookingDto);
+    public ResponseEntity<BookingDto> createBooking(@RequestBody BookingDto bookingDto,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        BookingDto createdBooking = idempotencyStore.execute(idempotencyKey, bookingDto,
+                () -> bookingService.createBooking(bookingDto));
         return ResponseEntity.ok(createdBooking);
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create bookings in bulk", description = "Creates several bookings in one request, e.g. for group events. Returns one result per entry; a rejected entry does not prevent the others from being created.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Batch processed; see each entry for its outcome")
+    })
+    public ResponseEntity<List<BatchBookingResultDto>> createBookings(@RequestBody List<BookingDto> bookingDtos) {
+        List<BatchBookingResultDto> results = bookingService.createBookings(bookingDtos);
+        return ResponseEntity.ok(results);
+    }
+
+    @PostMapping("/holds")
+    @Operation(summary = "Hold a slot", description = "Reserves a staff slot for a limited time while the customer checks out. Needs userId, staffId, serviceId and startTime.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Slot held"),
+        @ApiResponse(responseCode = "400", description = "Slot not available")
+    })
+    public ResponseEntity<HoldDto> placeHold(@RequestBody BookingDto bookingDto) {
+        HoldDto hold = bookingService.placeHold(bookingDto);
+        return ResponseEntity.ok(hold);
+    }
+
+    @PostMapping("/holds/{holdId}/confirm")
+    @Operation(summary = "Confirm a held slot", description = "Turns a live hold into a PENDING booking. Only the user who placed the hold can confirm it.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Booking created from the hold"),
+        @ApiResponse(responseCode = "400", description = "Hold not found or expired")
+    })
+    public ResponseEntity<BookingDto> confirmHold(@PathVariable String holdId, @RequestParam Long userId) {
+        BookingDto booking = bookingService.confirmHold(holdId, userId);
+        return ResponseEntity.ok(booking);
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    @Operation(summary = "Release a held slot", description = "Gives a held slot back before the hold expires. Only the user who placed the hold can release it.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "204", description = "Hold released"),
+        @ApiResponse(responseCode = "400", description = "Hold not found or expired")
+    })
+    public ResponseEntity<Void> releaseHold(@PathVariable String holdId, @RequestParam Long userId) {
+        bookingService.releaseHold(holdId, userId);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get booking by ID", description = "Retrieves a booking by its unique ID.")
     @ApiResponses({
@@ -63,12 +126,50 @@ public class BookingController {
     }
 
     @GetMapping
-    @Operation(summary = "Get all bookings", description = "Retrieves all bookings.")
+    @Operation(summary = "List bookings", description = "Retrieves bookings in id order, optionally filtered by userId, staffId, serviceId, status and a from/to start-time range. "
+            + "One page is returned, of 'limit' bookings or the default page size, capped at the maximum page size. When more bookings follow, "
+            + "the X-Next-Cursor header holds the value to pass as 'after' for the next page.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "List of bookings retrieved successfully")
     })
-    public ResponseEntity<List<BookingDto>> getAllBookings() {
-        List<BookingDto> bookings = bookingService.getAllBookings();
-        return ResponseEntity.ok(bookings);
+    public ResponseEntity<List<BookingDto>> getAllBookings(BookingFilter filter,
+            @RequestParam(required = false) Long after, @RequestParam(required = false) Integer limit) {
+        BookingPageDto page = bookingService.findBookings(filter, after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor()));
+        }
+        return response.body(page.getContent());
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export bookings", description = "Streams every booking changed after the optional 'since' watermark as NDJSON or CSV, ordered by updatedAt, "
+            + "then a row with deleted=true for every booking deleted since then. Pass the largest updatedAt seen as 'since' to continue incrementally. "
+            + "Rows changed shortly before 'since' are sent again so that late commits are not missed; apply rows by id. "
+            + "A 'since' older than the event retention (booking.events.retention) is rejected; run a full export instead.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "since is older than the event retention")
+    })
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @RequestParam(defaultValue = "NDJSON") BookingExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since) {
+        // Checked up front: once streaming starts the status can no longer change
+        bookingService.checkExportWatermark(since);
+        StreamingResponseBody body = out -> bookingService.exportBookings(since, format, out);
+        return ResponseEntity.ok().contentType(format.getMediaType()).body(body);
+    }
+
+    @GetMapping("/availability")
+    @Operation(summary = "Find free slots", description = "Lists every staff member offering a service with their free time on a given day.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Availability retrieved successfully")
+    })
+    public ResponseEntity<List<StaffAvailabilityDto>> getAvailability(@RequestParam Long serviceId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime to) {
+        List<StaffAvailabilityDto> availability = bookingService.findAvailability(serviceId, date, from, to);
+        return ResponseEntity.ok(availability);
     }
 }
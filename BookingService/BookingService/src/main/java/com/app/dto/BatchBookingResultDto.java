@@ -0,0 +1,19 @@
+package com.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one entry of a batch booking request. Exactly one of booking and
+ * error is set.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchBookingResultDto {
+	// Position of the entry in the request
+	private int index;
+	private BookingDto booking;
+	private String error;
+}
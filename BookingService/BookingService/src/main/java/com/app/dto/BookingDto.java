@@ -1,5 +1,7 @@
 package com.app.dto;
 
+import java.time.Instant;
+
 import com.app.entity.BookingStatus;
 
 import jakarta.persistence.Column;
@@ -16,7 +18,10 @@ public class BookingDto {
 	private Long staffId;
 	private Long serviceId;
 	private String time;
+	private Instant startTime;
+	private Instant endTime;
 	private Double price;
 	private BookingStatus status;
+	private Instant updatedAt;
 
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.app.dto;
+
+import java.time.Instant;
+
+import com.app.entity.BookingEventType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A booking change as delivered to event subscribers. Event ids are unique but
+ * assigned before commit, so they are not in commit order and cannot serve as
+ * a resume position. Delivery is at least once; consumers de-duplicate by
+ * event id.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingEventDto {
+	private Long eventId;
+	private Long bookingId;
+	private BookingEventType type;
+	private Instant occurredAt;
+	private BookingDto booking;
+}
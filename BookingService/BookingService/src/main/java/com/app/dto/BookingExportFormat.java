@@ -0,0 +1,21 @@
+package com.app.dto;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Output formats of the booking export.
+ */
+public enum BookingExportFormat {
+	NDJSON(MediaType.parseMediaType("application/x-ndjson")),
+	CSV(MediaType.parseMediaType("text/csv"));
+
+	private final MediaType mediaType;
+
+	BookingExportFormat(MediaType mediaType) {
+		this.mediaType = mediaType;
+	}
+
+	public MediaType getMediaType() {
+		return mediaType;
+	}
+}
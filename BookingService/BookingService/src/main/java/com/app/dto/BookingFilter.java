@@ -0,0 +1,29 @@
+package com.app.dto;
+
+import java.time.Instant;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.app.entity.BookingStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Optional criteria for listing bookings. Null fields do not filter; from and
+ * to select bookings starting within [from, to).
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingFilter {
+	private Long userId;
+	private Long staffId;
+	private Long serviceId;
+	private BookingStatus status;
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	private Instant from;
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	private Instant to;
+}
@@ -0,0 +1,19 @@
+package com.app.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of bookings ordered by id. nextCursor is the id to pass as
+ * {@code after} for the next page, or null on the last page.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingPageDto {
+	private List<BookingDto> content;
+	private Long nextCursor;
+}
@@ -0,0 +1,20 @@
+package com.app.dto;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Export line for a deleted booking. updatedAt is when it was deleted and
+ * advances the watermark like any other row.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingTombstoneDto {
+	private Long id;
+	private boolean deleted;
+	private Instant updatedAt;
+}
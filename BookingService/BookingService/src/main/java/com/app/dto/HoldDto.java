@@ -0,0 +1,24 @@
+package com.app.dto;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A staff slot reserved for a customer until it is confirmed or expires.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class HoldDto {
+	private String holdId;
+	private Long userId;
+	private Long staffId;
+	private Long serviceId;
+	private Instant startTime;
+	private Instant endTime;
+	private Double price;
+	private Instant expiresAt;
+}
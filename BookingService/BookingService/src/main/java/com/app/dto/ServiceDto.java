@@ -0,0 +1,19 @@
+package com.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The subset of the Service Management Microservice's service representation
+ * that bookings need.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ServiceDto {
+	private Long id;
+	private String name;
+	private Double price;
+	private Integer durationMinutes;
+}
@@ -0,0 +1,16 @@
+package com.app.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StaffAvailabilityDto {
+	private Long staffId;
+	private String staffName;
+	private List<TimeSlotDto> freeSlots;
+}
@@ -0,0 +1,18 @@
+package com.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The subset of the Staff Management Microservice's staff representation that
+ * bookings need.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StaffDto {
+	private Long id;
+	private String name;
+	private Long serviceId;
+}
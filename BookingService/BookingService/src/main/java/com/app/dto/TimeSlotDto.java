@@ -0,0 +1,15 @@
+package com.app.dto;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TimeSlotDto {
+	private Instant start;
+	private Instant end;
+}
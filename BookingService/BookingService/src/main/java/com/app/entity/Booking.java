@@ -1,5 +1,7 @@
 package com.app.entity;
 
+import java.time.Instant;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -7,6 +9,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -15,10 +22,25 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+		// Loads a staff member's calendar into the interval index
+		@Index(name = "idx_booking_staff_end", columnList = "staffId, endTime"),
+		// Overlap checks reaching back before the calendar's cutoff
+		@Index(name = "idx_booking_staff_start", columnList = "staffId, startTime"),
+		// Keyset pagination walks ids in order within each filter
+		@Index(name = "idx_booking_user_id", columnList = "userId, id"),
+		@Index(name = "idx_booking_staff_id", columnList = "staffId, id"),
+		@Index(name = "idx_booking_service_id", columnList = "serviceId, id"),
+		@Index(name = "idx_booking_status_id", columnList = "status, id"),
+		@Index(name = "idx_booking_start_id", columnList = "startTime, id"),
+		// Incremental exports resume from an updatedAt watermark
+		@Index(name = "idx_booking_updated", columnList = "updatedAt, id") })
 public class Booking {
 
+	// Pooled sequence ids let Hibernate batch inserts, which IDENTITY would prevent
 	@Id
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_seq")
+	@SequenceGenerator(name = "booking_seq", sequenceName = "booking_seq", allocationSize = 50)
 	private Long id;
 
 	private Long userId;
@@ -29,10 +51,24 @@ public class Booking {
 
 	private String time;
 
+	private Instant startTime;
+
+	// Derived from startTime and the booked service's duration
+	private Instant endTime;
+
 	@Column(nullable = false)
 	private Double price;
 
 	@Enumerated(EnumType.STRING)
 	@Column(nullable = false)
 	private BookingStatus status;
+
+	// Last time the row was written, used as the export watermark
+	private Instant updatedAt;
+
+	@PrePersist
+	@PreUpdate
+	void touch() {
+		updatedAt = Instant.now();
+	}
 }
@@ -0,0 +1,60 @@
+package com.app.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outbox row describing one booking change. Written in the same transaction
+ * as the change itself and published later by the outbox relay, so an event
+ * exists if and only if the change committed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(indexes = { @Index(name = "idx_booking_event_published", columnList = "published, id"),
+		// Export tombstones are read by type from a watermark
+		@Index(name = "idx_booking_event_type_occurred", columnList = "type, occurredAt, id") })
+public class BookingEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_event_seq")
+	@SequenceGenerator(name = "booking_event_seq", sequenceName = "booking_event_seq", allocationSize = 50)
+	private Long id;
+
+	private Long bookingId;
+
+	@Enumerated(EnumType.STRING)
+	private BookingEventType type;
+
+	// The booking as JSON, as it looked right after the change (or before a delete)
+	@Lob
+	private String payload;
+
+	private Instant occurredAt;
+
+	@Column(nullable = false)
+	private boolean published;
+
+	// Set while a relay publishes the event; other relays skip it until then
+	private Instant claimedUntil;
+
+	// Set when the payload could not be read; the relay never claims the event again
+	private Instant quarantinedAt;
+
+	private String quarantineReason;
+}
@@ -0,0 +1,7 @@
+package com.app.entity;
+
+public enum BookingEventType {
+	CREATED,
+	UPDATED,
+	DELETED
+}
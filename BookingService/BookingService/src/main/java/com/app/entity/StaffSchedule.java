@@ -0,0 +1,27 @@
+package com.app.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row per staff member whose version is bumped by every booking change.
+ * Two nodes changing the same staff member's calendar at once cannot both
+ * commit, and a node that sees an unexpected version knows its in-memory
+ * calendar is stale.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+public class StaffSchedule {
+
+	@Id
+	private Long staffId;
+
+	@Version
+	private Long version;
+}
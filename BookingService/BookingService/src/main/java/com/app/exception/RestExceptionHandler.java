@@ -2,6 +2,7 @@ package com.app.exception;
 
 import java.time.LocalDateTime;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -18,6 +19,21 @@ public class RestExceptionHandler {
 		return new ResponseEntity<>(createBadRequestResponse(e.getMessage(), request), HttpStatus.BAD_REQUEST);
 	}
 
+	@ExceptionHandler(ServiceUnavailableException.class)
+	public ResponseEntity<ErrorResponse> handleException(ServiceUnavailableException e, HttpServletRequest request) {
+		ErrorResponse errorResponse = createBadRequestResponse(e.getMessage(), request);
+		errorResponse.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5")
+				.body(errorResponse);
+	}
+
+	@ExceptionHandler(IdempotencyKeyReusedException.class)
+	public ResponseEntity<ErrorResponse> handleException(IdempotencyKeyReusedException e, HttpServletRequest request) {
+		ErrorResponse errorResponse = createBadRequestResponse(e.getMessage(), request);
+		errorResponse.setStatus(HttpStatus.UNPROCESSABLE_ENTITY.value());
+		return new ResponseEntity<>(errorResponse, HttpStatus.UNPROCESSABLE_ENTITY);
+	}
+
 	private ErrorResponse createBadRequestResponse(String localMessage, HttpServletRequest request) {
 		ErrorResponse errorResponse = new ErrorResponse();
 		errorResponse.setMessage(localMessage);
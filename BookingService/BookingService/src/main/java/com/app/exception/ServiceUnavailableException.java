@@ -0,0 +1,13 @@
+package com.app.exception;
+
+/**
+ * Thrown when a booking cannot be processed because a service it depends on is
+ * down. Answered with 503 and Retry-After, since the same request is expected
+ * to succeed later.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+	public ServiceUnavailableException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,24 @@
+package com.app.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+import com.app.dto.BookingDto;
+import com.app.entity.Booking;
+
+/**
+ * Converts bookings between entity and DTO. MapStruct generates the
+ * implementation at build time as plain getter and setter calls, so mapping
+ * involves no reflection or type-map lookups at runtime.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface BookingMapper {
+
+	BookingDto toDto(Booking booking);
+
+	Booking toEntity(BookingDto bookingDto);
+
+	List<BookingDto> toDtos(List<Booking> bookings);
+}
@@ -0,0 +1,78 @@
+package com.app.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import com.app.entity.BookingEvent;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface BookingEventRepo extends JpaRepository<BookingEvent, Long> {
+
+	/**
+	 * Locks the oldest unpublished, unquarantined events that no relay has
+	 * claimed, or whose claim lapsed. Rows locked by a relay on another node are skipped rather
+	 * than waited for, so relays share the backlog.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query("select e from BookingEvent e where e.published = false and e.quarantinedAt is null "
+			+ "and (e.claimedUntil is null or e.claimedUntil < :now) order by e.id")
+	List<BookingEvent> findClaimable(Instant now, Limit limit);
+
+	@Modifying
+	@Query("update BookingEvent e set e.claimedUntil = :until where e.id in :ids")
+	int claim(List<Long> ids, Instant until);
+
+	@Modifying
+	@Query("update BookingEvent e set e.claimedUntil = null where e.id in :ids")
+	int releaseClaim(List<Long> ids);
+
+	@Modifying
+	@Query("update BookingEvent e set e.published = true, e.claimedUntil = null where e.id in :ids")
+	int markPublished(List<Long> ids);
+
+	@Modifying
+	@Query("update BookingEvent e set e.quarantinedAt = :at, e.quarantineReason = :reason, e.claimedUntil = null "
+			+ "where e.id = :id")
+	int quarantine(Long id, Instant at, String reason);
+
+	/**
+	 * Finds the oldest published events that occurred before a cutoff, for
+	 * retention cleanup.
+	 *
+	 * @param before The cutoff.
+	 * @param limit  The most ids to return.
+	 * @return The event ids, ordered by id.
+	 */
+	@Query("select e.id from BookingEvent e where e.published = true and e.occurredAt < :before order by e.id")
+	List<Long> findPublishedBefore(Instant before, Limit limit);
+
+	@Modifying
+	@Query("delete from BookingEvent e where e.id in :ids")
+	int deleteByIds(List<Long> ids);
+
+	/**
+	 * Streams the deletions recorded after a watermark, the export's tombstones.
+	 * Must be consumed inside a transaction and closed.
+	 *
+	 * @param since The watermark.
+	 * @return The delete events ordered by occurredAt, then id.
+	 */
+	@QueryHints({ @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+			@QueryHint(name = "org.hibernate.readOnly", value = "true") })
+	@Query("select e from BookingEvent e where e.type = com.app.entity.BookingEventType.DELETED "
+			+ "and e.occurredAt > :since order by e.occurredAt, e.id")
+	Stream<BookingEvent> streamDeletedSince(Instant since);
+}
@@ -1,15 +1,65 @@
 package com.app.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.app.entity.Booking;
+import com.app.entity.BookingStatus;
 
+import jakarta.persistence.QueryHint;
+
+import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface BookingRepo extends JpaRepository<Booking, Long> {
+public interface BookingRepo extends JpaRepository<Booking, Long>, JpaSpecificationExecutor<Booking> {
 	@Query("select b from Booking b where b.staffId = :staffId")
 	List<Booking> findByStaffId(Long staffId);
+
+	/**
+	 * Loads the time-ranged bookings of a staff member ending after a cutoff,
+	 * used to build the in-memory interval index.
+	 */
+	List<Booking> findByStaffIdAndEndTimeAfterAndStatusNot(Long staffId, Instant cutoff, BookingStatus status);
+
+	/**
+	 * Finds the time-ranged bookings of a staff member overlapping [start, end),
+	 * for checks reaching back before the interval index's cutoff.
+	 */
+	List<Booking> findByStaffIdAndStartTimeBeforeAndEndTimeAfterAndStatusNot(Long staffId, Instant end, Instant start,
+			BookingStatus status);
+
+	/**
+	 * Loads the active bookings of a staff member that only carry a legacy
+	 * free-form time, so those naming a date can be placed on the calendar.
+	 */
+	List<Booking> findByStaffIdAndStartTimeIsNullAndTimeIsNotNullAndStatusNot(Long staffId, BookingStatus status);
+
+	/**
+	 * Streams the bookings written after a watermark in write order. Must be
+	 * consumed inside a transaction and closed. On MySQL the rows are only
+	 * fetched incrementally when the JDBC URL sets useCursorFetch=true.
+	 *
+	 * @param since The watermark, or null to export everything.
+	 * @return The bookings ordered by updatedAt, then id.
+	 */
+	@QueryHints({ @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+			@QueryHint(name = "org.hibernate.readOnly", value = "true") })
+	@Query("select b from Booking b where :since is null or b.updatedAt > :since order by b.updatedAt, b.id")
+	Stream<Booking> streamUpdatedSince(Instant since);
+
+	/**
+	 * Stamps rows written before updatedAt existed, so incremental exports pick
+	 * them up once.
+	 *
+	 * @return The number of rows stamped.
+	 */
+	@Modifying
+	@Query("update Booking b set b.updatedAt = :now where b.updatedAt is null")
+	int backfillUpdatedAt(Instant now);
 }
@@ -0,0 +1,51 @@
+package com.app.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.app.dto.BookingFilter;
+import com.app.entity.Booking;
+
+/**
+ * Builds the criteria for keyset-paginated booking listings.
+ */
+public final class BookingSpecifications {
+
+	private BookingSpecifications() {
+	}
+
+	/**
+	 * Matches the bookings selected by the filter whose id is greater than the
+	 * cursor.
+	 *
+	 * @param filter  The listing criteria; null fields are ignored.
+	 * @param afterId The last id of the previous page, or null for the first page.
+	 * @return The combined specification.
+	 */
+	public static Specification<Booking> matching(BookingFilter filter, Long afterId) {
+		return (root, query, cb) -> {
+			var predicate = cb.conjunction();
+			if (afterId != null) {
+				predicate = cb.and(predicate, cb.greaterThan(root.get("id"), afterId));
+			}
+			if (filter.getUserId() != null) {
+				predicate = cb.and(predicate, cb.equal(root.get("userId"), filter.getUserId()));
+			}
+			if (filter.getStaffId() != null) {
+				predicate = cb.and(predicate, cb.equal(root.get("staffId"), filter.getStaffId()));
+			}
+			if (filter.getServiceId() != null) {
+				predicate = cb.and(predicate, cb.equal(root.get("serviceId"), filter.getServiceId()));
+			}
+			if (filter.getStatus() != null) {
+				predicate = cb.and(predicate, cb.equal(root.get("status"), filter.getStatus()));
+			}
+			if (filter.getFrom() != null) {
+				predicate = cb.and(predicate, cb.greaterThanOrEqualTo(root.get("startTime"), filter.getFrom()));
+			}
+			if (filter.getTo() != null) {
+				predicate = cb.and(predicate, cb.lessThan(root.get("startTime"), filter.getTo()));
+			}
+			return predicate;
+		};
+	}
+}
@@ -0,0 +1,22 @@
+package com.app.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import com.app.entity.StaffSchedule;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface StaffScheduleRepo extends JpaRepository<StaffSchedule, Long> {
+
+	/**
+	 * Loads a staff member's schedule row and schedules a version increment at
+	 * commit, which fails if another transaction committed a change first.
+	 */
+	@Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+	Optional<StaffSchedule> findForUpdateByStaffId(Long staffId);
+}
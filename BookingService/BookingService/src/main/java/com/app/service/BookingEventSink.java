@@ -0,0 +1,17 @@
+package com.app.service;
+
+import java.util.List;
+
+import com.app.dto.BookingEventDto;
+
+/**
+ * Destination the outbox relay publishes booking events to. The relay calls
+ * {@link #publish} outside any transaction, with each batch in id order, and
+ * marks the events published only if it returns normally. Delivery is at
+ * least once and batches from different relays may interleave, so sinks should
+ * tolerate repeats and must not rely on ids being in commit order.
+ */
+public interface BookingEventSink {
+
+	void publish(List<BookingEventDto> events) throws Exception;
+}
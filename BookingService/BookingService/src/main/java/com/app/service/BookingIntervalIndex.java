@@ -0,0 +1,363 @@
+package com.app.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.app.entity.Booking;
+import com.app.entity.BookingStatus;
+import com.app.repository.BookingRepo;
+
+/**
+ * In-memory index of the active, time-ranged bookings of each staff member.
+ * Answers overlap queries in O(log n) without touching the database. A staff
+ * member's calendar is loaded from {@link BookingRepo} the first time it is
+ * needed on this node and then kept up to date by {@link BookingServiceImpl}.
+ * Older bookings that only carry a free-form time naming a date are placed on
+ * the calendar too, lasting the default service duration.
+ * <p>
+ * A calendar only holds bookings ending after a cutoff that trails the current
+ * time by {@code booking.calendar.history}, so its size follows the upcoming
+ * bookings rather than the staff member's lifetime history. Queries reaching
+ * back before the cutoff, e.g. back-dated bookings, read the database instead.
+ */
+@Component
+public class BookingIntervalIndex {
+
+	@Autowired
+	private BookingRepo bookingRepository;
+
+	// Zone and length used to place legacy free-form times on the calendar
+	@Value("${booking.zone-id:#{T(java.time.ZoneId).systemDefault()}}")
+	private ZoneId zoneId;
+
+	@Value("${booking.default-duration-minutes:30}")
+	private int defaultDurationMinutes;
+
+	// How far back the calendar reaches; older ranges are checked against the database
+	@Value("${booking.calendar.history:P7D}")
+	private Duration history = Duration.ofDays(7);
+
+	private final ConcurrentHashMap<Long, StaffCalendar> calendars = new ConcurrentHashMap<>();
+
+	// Bumped before a calendar loses bookings, so a load that raced the change is not cached
+	private final ConcurrentHashMap<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+	// Last StaffSchedule version this node has seen per staff member
+	private final ConcurrentHashMap<Long, Long> knownVersions = new ConcurrentHashMap<>();
+
+	/**
+	 * Finds the bookings of a staff member that overlap the half-open range
+	 * [start, end).
+	 *
+	 * @param staffId The staff member.
+	 * @param start   Start of the range, inclusive.
+	 * @param end     End of the range, exclusive.
+	 * @return The ids of the overlapping bookings, empty if the range is free.
+	 */
+	public List<Long> findOverlapping(Long staffId, Instant start, Instant end) {
+		return calendarFrom(staffId, start, end).overlapping(start.toEpochMilli(), end.toEpochMilli());
+	}
+
+	/**
+	 * Returns the busy intervals of a staff member that overlap [start, end), as
+	 * {start, end} pairs in epoch milliseconds ordered by start.
+	 */
+	public List<long[]> busyIntervals(Long staffId, Instant start, Instant end) {
+		return calendarFrom(staffId, start, end).intervals(start.toEpochMilli(), end.toEpochMilli());
+	}
+
+	/**
+	 * Records a saved booking. Bookings without a time range or that are canceled
+	 * are ignored.
+	 */
+	public void add(Booking booking) {
+		if (isIndexed(booking)) {
+			calendar(booking.getStaffId()).add(booking.getId(), booking.getStartTime().toEpochMilli(),
+					booking.getEndTime().toEpochMilli(), cutoff());
+		}
+	}
+
+	/**
+	 * Forgets a booking, e.g. after it was deleted, canceled or moved.
+	 */
+	public void remove(Booking booking) {
+		generation(booking.getStaffId()).incrementAndGet();
+		calendars.computeIfPresent(booking.getStaffId(), (staffId, calendar) -> {
+			calendar.remove(booking.getId());
+			return calendar;
+		});
+	}
+
+	/**
+	 * Drops the cached calendar of a staff member so it is reloaded on next use.
+	 */
+	public void invalidate(Long staffId) {
+		generation(staffId).incrementAndGet();
+		calendars.remove(staffId);
+		knownVersions.remove(staffId);
+	}
+
+	/**
+	 * Compares the staff member's schedule version read from the database with
+	 * the last one this node committed or saw. A mismatch means another node
+	 * changed the calendar, so it is reloaded on next use.
+	 *
+	 * @return true if the cached calendar was stale.
+	 */
+	public boolean syncVersion(Long staffId, Long version) {
+		Long known = knownVersions.get(staffId);
+		if (known == null || !known.equals(version)) {
+			generation(staffId).incrementAndGet();
+			calendars.remove(staffId);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Records the schedule version this node just committed.
+	 */
+	public void markVersion(Long staffId, Long version) {
+		knownVersions.put(staffId, version);
+	}
+
+	/**
+	 * Returns the calendar holding every booking that may overlap [start, end):
+	 * the cached one, or one read from the database for a range starting before
+	 * its cutoff.
+	 */
+	private StaffCalendar calendarFrom(Long staffId, Instant start, Instant end) {
+		StaffCalendar calendar = calendar(staffId);
+		if (start.toEpochMilli() >= calendar.cutoff()) {
+			return calendar;
+		}
+		List<long[]> entries = new ArrayList<>();
+		for (Booking booking : bookingRepository.findByStaffIdAndStartTimeBeforeAndEndTimeAfterAndStatusNot(staffId,
+				end, start, BookingStatus.CANCELED)) {
+			entries.add(new long[] { booking.getId(), booking.getStartTime().toEpochMilli(),
+					booking.getEndTime().toEpochMilli() });
+		}
+		addLegacy(entries, staffId);
+		return new StaffCalendar(Long.MIN_VALUE, entries);
+	}
+
+	/**
+	 * Returns the cached calendar, loading it on a miss. The database is read
+	 * outside the map's bin lock; the result is cached only if no booking was
+	 * removed meanwhile, since the load may predate that removal. Added bookings
+	 * need no such check because adding is idempotent.
+	 */
+	private StaffCalendar calendar(Long staffId) {
+		StaffCalendar cached = calendars.get(staffId);
+		if (cached != null) {
+			return cached;
+		}
+		long generation = generation(staffId).get();
+		StaffCalendar loaded = load(staffId);
+		StaffCalendar installed = calendars.compute(staffId, (id, current) -> current != null ? current
+				: generation(id).get() == generation ? loaded : null);
+		return installed != null ? installed : loaded;
+	}
+
+	private AtomicLong generation(Long staffId) {
+		return generations.computeIfAbsent(staffId, id -> new AtomicLong());
+	}
+
+	// Whole hours, so a calendar is trimmed at most once an hour
+	private long cutoff() {
+		return Instant.now().minus(history).truncatedTo(ChronoUnit.HOURS).toEpochMilli();
+	}
+
+	private StaffCalendar load(Long staffId) {
+		long cutoff = cutoff();
+		List<long[]> entries = new ArrayList<>();
+		for (Booking booking : bookingRepository.findByStaffIdAndEndTimeAfterAndStatusNot(staffId,
+				Instant.ofEpochMilli(cutoff), BookingStatus.CANCELED)) {
+			if (booking.getStartTime() != null) {
+				entries.add(new long[] { booking.getId(), booking.getStartTime().toEpochMilli(),
+						booking.getEndTime().toEpochMilli() });
+			}
+		}
+		addLegacy(entries, staffId);
+		return new StaffCalendar(cutoff, entries);
+	}
+
+	private void addLegacy(List<long[]> entries, Long staffId) {
+		long legacyLength = Duration.ofMinutes(defaultDurationMinutes).toMillis();
+		for (Booking booking : bookingRepository.findByStaffIdAndStartTimeIsNullAndTimeIsNotNullAndStatusNot(staffId,
+				BookingStatus.CANCELED)) {
+			LegacyTimes.parse(booking.getTime(), zoneId).ifPresent(start -> entries
+					.add(new long[] { booking.getId(), start.toEpochMilli(), start.toEpochMilli() + legacyLength }));
+		}
+	}
+
+	private static boolean isIndexed(Booking booking) {
+		return booking.getStartTime() != null && booking.getEndTime() != null
+				&& booking.getStatus() != BookingStatus.CANCELED;
+	}
+
+	/**
+	 * One staff member's intervals as parallel arrays sorted by start, with a
+	 * running maximum of the end times. An overlap query binary-searches the
+	 * first interval starting at or after the range end and walks back only while
+	 * the running maximum still reaches into the range. Writes replace the arrays
+	 * (copy-on-write), so readers never lock. Intervals ending at or before the
+	 * cutoff are left out, and each write moves the cutoff forward, dropping the
+	 * intervals that have fallen behind it.
+	 */
+	static final class StaffCalendar {
+
+		private static final class Snapshot {
+			final long cutoff;
+			final long[] starts;
+			final long[] ends;
+			final long[] maxEnds;
+			final long[] ids;
+
+			Snapshot(long cutoff, long[] starts, long[] ends, long[] ids) {
+				this.cutoff = cutoff;
+				this.starts = starts;
+				this.ends = ends;
+				this.ids = ids;
+				this.maxEnds = new long[ends.length];
+				long max = Long.MIN_VALUE;
+				for (int i = 0; i < ends.length; i++) {
+					max = Math.max(max, ends[i]);
+					maxEnds[i] = max;
+				}
+			}
+		}
+
+		private volatile Snapshot snapshot;
+
+		/**
+		 * Builds a calendar in one pass from {id, start, end} entries.
+		 */
+		StaffCalendar(long cutoff, List<long[]> entries) {
+			long[][] kept = entries.stream().filter(entry -> entry[2] > cutoff)
+					.sorted((a, b) -> Long.compare(a[1], b[1])).toArray(long[][]::new);
+			long[] ids = new long[kept.length];
+			long[] starts = new long[kept.length];
+			long[] ends = new long[kept.length];
+			for (int i = 0; i < kept.length; i++) {
+				ids[i] = kept[i][0];
+				starts[i] = kept[i][1];
+				ends[i] = kept[i][2];
+			}
+			this.snapshot = new Snapshot(cutoff, starts, ends, ids);
+		}
+
+		// Queries starting before this instant may miss bookings
+		long cutoff() {
+			return snapshot.cutoff;
+		}
+
+		List<Long> overlapping(long start, long end) {
+			Snapshot s = snapshot;
+			List<Long> result = new ArrayList<>(1);
+			for (int i = countStartingBefore(s, end) - 1; i >= 0 && s.maxEnds[i] > start; i--) {
+				if (s.ends[i] > start) {
+					result.add(s.ids[i]);
+				}
+			}
+			return result;
+		}
+
+		List<long[]> intervals(long start, long end) {
+			Snapshot s = snapshot;
+			List<long[]> result = new ArrayList<>();
+			for (int i = countStartingBefore(s, end) - 1; i >= 0 && s.maxEnds[i] > start; i--) {
+				if (s.ends[i] > start) {
+					result.add(new long[] { s.starts[i], s.ends[i] });
+				}
+			}
+			result.sort((a, b) -> Long.compare(a[0], b[0]));
+			return result;
+		}
+
+		synchronized void add(long id, long start, long end, long cutoff) {
+			removeInternal(id);
+			Snapshot s = snapshot;
+			if (cutoff > s.cutoff) {
+				s = trim(s, cutoff);
+				snapshot = s;
+			}
+			if (end <= s.cutoff) {
+				return;
+			}
+			int at = countStartingBefore(s, start);
+			snapshot = new Snapshot(s.cutoff, insert(s.starts, at, start), insert(s.ends, at, end),
+					insert(s.ids, at, id));
+		}
+
+		synchronized void remove(long id) {
+			removeInternal(id);
+		}
+
+		private void removeInternal(long id) {
+			Snapshot s = snapshot;
+			for (int i = 0; i < s.ids.length; i++) {
+				if (s.ids[i] == id) {
+					snapshot = new Snapshot(s.cutoff, delete(s.starts, i), delete(s.ends, i), delete(s.ids, i));
+					return;
+				}
+			}
+		}
+
+		private static Snapshot trim(Snapshot s, long cutoff) {
+			int kept = 0;
+			long[] starts = new long[s.starts.length];
+			long[] ends = new long[s.ends.length];
+			long[] ids = new long[s.ids.length];
+			for (int i = 0; i < s.ids.length; i++) {
+				if (s.ends[i] > cutoff) {
+					starts[kept] = s.starts[i];
+					ends[kept] = s.ends[i];
+					ids[kept] = s.ids[i];
+					kept++;
+				}
+			}
+			return new Snapshot(cutoff, Arrays.copyOf(starts, kept), Arrays.copyOf(ends, kept), Arrays.copyOf(ids, kept));
+		}
+
+		// Number of intervals whose start is strictly before the given instant
+		private static int countStartingBefore(Snapshot s, long instant) {
+			int low = 0;
+			int high = s.starts.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (s.starts[mid] < instant) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		private static long[] insert(long[] array, int at, long value) {
+			long[] copy = Arrays.copyOf(array, array.length + 1);
+			System.arraycopy(array, at, copy, at + 1, array.length - at);
+			copy[at] = value;
+			return copy;
+		}
+
+		private static long[] delete(long[] array, int at) {
+			long[] copy = new long[array.length - 1];
+			System.arraycopy(array, 0, copy, 0, at);
+			System.arraycopy(array, at + 1, copy, at, array.length - at - 1);
+			return copy;
+		}
+	}
+}
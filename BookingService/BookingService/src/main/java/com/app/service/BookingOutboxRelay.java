@@ -0,0 +1,160 @@
+package com.app.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.dto.BookingDto;
+import com.app.dto.BookingEventDto;
+import com.app.entity.BookingEvent;
+import com.app.repository.BookingEventRepo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Publishes committed booking events from the outbox table to the configured
+ * {@link BookingEventSink} in batches. A batch is claimed for a limited time in
+ * one short transaction, published with no transaction or row lock held, and
+ * marked published in another. If the sink fails, the claim is released and
+ * the batch is retried on the next run; if the relay dies, the claim lapses and
+ * any relay picks the batch up again.
+ * <p>
+ * An event whose payload cannot be read is quarantined rather than failing its
+ * batch: it is stamped with the time and reason, never claimed again, and left
+ * in the table for someone to inspect. Published events are deleted once they
+ * are older than {@code booking.events.retention}, so the table only holds the
+ * recent history that incremental exports read their tombstones from.
+ */
+@Component
+public class BookingOutboxRelay {
+
+	private static final Logger log = LoggerFactory.getLogger(BookingOutboxRelay.class);
+
+	@Autowired
+	private BookingEventRepo eventRepository;
+
+	@Autowired
+	private BookingEventSink sink;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Value("${booking.events.batch-size:500}")
+	private int batchSize;
+
+	// How long a claimed batch is reserved for one relay; should exceed the slowest publish
+	@Value("${booking.events.claim-timeout:PT1M}")
+	private Duration claimTimeout;
+
+	// How long published events are kept; incremental exports cannot reach further back
+	@Value("${booking.events.retention:P30D}")
+	private Duration retention;
+
+	// Rows removed per delete statement, so cleanup never holds long locks
+	@Value("${booking.events.cleanup-batch-size:1000}")
+	private int cleanupBatchSize;
+
+	/**
+	 * Drains the outbox until a batch comes back short.
+	 */
+	@Scheduled(fixedDelayString = "${booking.events.relay-interval-ms:1000}")
+	public void relay() {
+		try {
+			while (publishBatch() == batchSize) {
+				// keep draining
+			}
+		} catch (RuntimeException e) {
+			log.warn("Publishing booking events failed, retrying on next run", e);
+		}
+	}
+
+	/**
+	 * Publishes one batch of events.
+	 *
+	 * @return The number of events published.
+	 */
+	public int publishBatch() {
+		Instant now = Instant.now();
+		List<BookingEvent> events = transactionTemplate.execute(status -> {
+			List<BookingEvent> claimable = eventRepository.findClaimable(now, Limit.of(batchSize));
+			if (!claimable.isEmpty()) {
+				eventRepository.claim(claimable.stream().map(BookingEvent::getId).toList(), now.plus(claimTimeout));
+			}
+			return claimable;
+		});
+		if (events == null || events.isEmpty()) {
+			return 0;
+		}
+		List<BookingEventDto> batch = new ArrayList<>(events.size());
+		for (BookingEvent event : events) {
+			try {
+				batch.add(toDto(event));
+			} catch (JsonProcessingException e) {
+				// One bad payload must not hold back the events behind it
+				log.error("Quarantining booking event {}: unreadable payload", event.getId(), e);
+				transactionTemplate.executeWithoutResult(
+						status -> eventRepository.quarantine(event.getId(), now, abbreviate(e.getOriginalMessage())));
+			}
+		}
+		if (batch.isEmpty()) {
+			return events.size();
+		}
+		List<Long> ids = batch.stream().map(BookingEventDto::getEventId).toList();
+		try {
+			sink.publish(batch);
+		} catch (Exception e) {
+			// Hand the batch back now rather than when the claim lapses
+			transactionTemplate.executeWithoutResult(status -> eventRepository.releaseClaim(ids));
+			throw new IllegalStateException("Booking event sink rejected a batch", e);
+		}
+		transactionTemplate.executeWithoutResult(status -> eventRepository.markPublished(ids));
+		return events.size();
+	}
+
+	/**
+	 * Deletes published events older than the retention, a chunk at a time.
+	 * Quarantined events are never published, so they stay until handled.
+	 *
+	 * @return The number of events deleted.
+	 */
+	@Scheduled(fixedDelayString = "${booking.events.cleanup-interval-ms:3600000}")
+	public int purgePublished() {
+		Instant before = Instant.now().minus(retention);
+		int deleted = 0;
+		int chunk;
+		do {
+			chunk = transactionTemplate.execute(status -> {
+				List<Long> ids = eventRepository.findPublishedBefore(before, Limit.of(cleanupBatchSize));
+				return ids.isEmpty() ? 0 : eventRepository.deleteByIds(ids);
+			});
+			deleted += chunk;
+		} while (chunk == cleanupBatchSize);
+		if (deleted > 0) {
+			log.info("Deleted {} booking events published before {}", deleted, before);
+		}
+		return deleted;
+	}
+
+	private BookingEventDto toDto(BookingEvent event) throws JsonProcessingException {
+		BookingDto booking = objectMapper.readValue(event.getPayload(), BookingDto.class);
+		return new BookingEventDto(event.getId(), event.getBookingId(), event.getType(), event.getOccurredAt(),
+				booking);
+	}
+
+	private static String abbreviate(String reason) {
+		return reason == null || reason.length() <= 255 ? reason : reason.substring(0, 255);
+	}
+}
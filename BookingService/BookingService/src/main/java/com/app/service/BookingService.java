@@ -1,12 +1,60 @@
 package com.app.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 
+import com.app.dto.BatchBookingResultDto;
 import com.app.dto.BookingDto;
+import com.app.dto.BookingExportFormat;
+import com.app.dto.BookingFilter;
+import com.app.dto.BookingPageDto;
+import com.app.dto.HoldDto;
+import com.app.dto.StaffAvailabilityDto;
 
 public interface BookingService {
 	BookingDto createBooking(BookingDto bookingDto);
 
+	/**
+	 * Creates several bookings at once. Entries that fail validation or clash
+	 * with existing bookings or earlier entries are reported individually and do
+	 * not prevent the others from being created.
+	 *
+	 * @param bookingDtos The bookings to create.
+	 * @return One result per entry, in request order.
+	 */
+	List<BatchBookingResultDto> createBookings(List<BookingDto> bookingDtos);
+
+	/**
+	 * Reserves a staff slot for a limited time so no one else can book it while
+	 * the customer checks out.
+	 *
+	 * @param bookingDto The slot to hold; needs userId, staffId, serviceId and
+	 *                   startTime.
+	 * @return The hold, including its id and expiry.
+	 */
+	HoldDto placeHold(BookingDto bookingDto);
+
+	/**
+	 * Turns a live hold into a PENDING booking.
+	 *
+	 * @param holdId The hold to confirm.
+	 * @param userId The user who placed the hold.
+	 * @return The created booking.
+	 */
+	BookingDto confirmHold(String holdId, Long userId);
+
+	/**
+	 * Gives a held slot back before its hold expires.
+	 *
+	 * @param holdId The hold to release.
+	 * @param userId The user who placed the hold.
+	 */
+	void releaseHold(String holdId, Long userId);
+
 	BookingDto getBookingById(Long id);
 
 	BookingDto updateBooking(Long id, BookingDto bookingDto);
@@ -18,5 +66,48 @@ public interface BookingService {
 	 */
 	String deleteBooking(Long id);
 
-	List<BookingDto> getAllBookings();
+	/**
+	 * Lists one page of bookings matching a filter in id order.
+	 *
+	 * @param filter  The listing criteria; null fields are ignored.
+	 * @param afterId The cursor returned with the previous page, or null.
+	 * @param limit   The page size, or null for the default.
+	 * @return The page and the cursor of the next one.
+	 */
+	BookingPageDto findBookings(BookingFilter filter, Long afterId, Integer limit);
+
+	/**
+	 * Writes every booking changed after a watermark to a stream, one row at a
+	 * time, without holding the result set in memory. Incremental exports also
+	 * carry a tombstone per deleted booking and may repeat rows written shortly
+	 * before the watermark.
+	 *
+	 * @param since  Only bookings written after this instant, or null for all.
+	 * @param format The output format.
+	 * @param out    The stream to write to.
+	 * @throws IOException If writing fails.
+	 */
+	void exportBookings(Instant since, BookingExportFormat format, OutputStream out) throws IOException;
+
+	/**
+	 * Checks that an incremental export can still see every deletion after a
+	 * watermark, before any of the export is written.
+	 *
+	 * @param since The watermark, or null for a full export.
+	 * @throws com.app.exception.BookingException If deletions from that far back
+	 *                                            are gone.
+	 */
+	void checkExportWatermark(Instant since);
+
+	/**
+	 * Finds the free time of every staff member offering a service on one day.
+	 *
+	 * @param serviceId The service to be booked.
+	 * @param date      The day to search.
+	 * @param from      Earliest start of interest, or null for the start of day.
+	 * @param to        Latest end of interest, or null for the end of day.
+	 * @return One entry per staff member with the free windows long enough for
+	 *         the service.
+	 */
+	List<StaffAvailabilityDto> findAvailability(Long serviceId, LocalDate date, LocalTime from, LocalTime to);
 }
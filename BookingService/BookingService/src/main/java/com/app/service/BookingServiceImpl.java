@@ -1,18 +1,76 @@
 package com.app.service;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import com.app.entity.BookingStatus;
 import com.app.exception.BookingException;
+import com.app.exception.ServiceUnavailableException;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import feign.FeignException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import com.app.client.ServiceClient;
+import com.app.client.StaffClient;
+import com.app.dto.BatchBookingResultDto;
 import com.app.dto.BookingDto;
+import com.app.mapper.BookingMapper;
+import com.app.dto.BookingExportFormat;
+import com.app.dto.BookingFilter;
+import com.app.dto.BookingPageDto;
+import com.app.dto.BookingTombstoneDto;
+import com.app.dto.HoldDto;
+import com.app.dto.ServiceDto;
+import com.app.dto.StaffAvailabilityDto;
+import com.app.dto.StaffDto;
+import com.app.dto.TimeSlotDto;
+import com.app.service.StaffDayBitsets.DayBitset;
 import com.app.entity.Booking;
+import com.app.entity.BookingEvent;
+import com.app.entity.BookingEventType;
+import com.app.entity.StaffSchedule;
+import com.app.repository.BookingEventRepo;
 import com.app.repository.BookingRepo;
+import com.app.repository.BookingSpecifications;
+import com.app.repository.StaffScheduleRepo;
 
 @Service
 public class BookingServiceImpl implements BookingService {
@@ -21,7 +79,78 @@ public class BookingServiceImpl implements BookingService {
     private BookingRepo bookingRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private StaffScheduleRepo scheduleRepository;
+
+    @Autowired
+    private BookingEventRepo eventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StaffLocks staffLocks;
+
+    @Autowired
+    private BookingMapper bookingMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ServiceClient serviceClient;
+
+    @Autowired
+    private StaffClient staffClient;
+
+    @Autowired
+    private BookingIntervalIndex intervalIndex;
+
+    @Autowired
+    private StaffDayBitsets dayBitsets;
+
+    @Autowired
+    private SlotHolds slotHolds;
+
+    // Zone in which salon days and opening times are interpreted
+    @Value("${booking.zone-id:#{T(java.time.ZoneId).systemDefault()}}")
+    private ZoneId zoneId;
+
+    // Attempts before giving up when other nodes keep changing the same calendar
+    @Value("${booking.lock.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${booking.page.default-size:50}")
+    private int defaultPageSize;
+
+    // Upper bound for any single listing request
+    @Value("${booking.page.max-size:500}")
+    private int maxPageSize;
+
+    // Rows written between flushes of the export stream
+    @Value("${booking.export.flush-every:1000}")
+    private int exportFlushEvery;
+
+    // How far before the watermark incremental exports start, covering transactions still open at export time
+    @Value("${booking.export.overlap:PT1M}")
+    private Duration exportOverlap;
+
+    // Published events, and with them the export's tombstones, are deleted after this long
+    @Value("${booking.events.retention:P30D}")
+    private Duration eventRetention;
+
+    // Used when the booked service does not declare a duration
+    @Value("${booking.default-duration-minutes:30}")
+    private int defaultDurationMinutes;
+
+    // How long a held slot stays reserved without being confirmed
+    @Value("${booking.hold.ttl-seconds:300}")
+    private long holdTtlSeconds;
+
+    // Last duration seen per service, used while the Service module is unreachable
+    private final Map<Long, Duration> knownDurations = new ConcurrentHashMap<>();
 
     /**
      * Creates a new booking.
@@ -33,25 +162,226 @@ public class BookingServiceImpl implements BookingService {
     @Override
     public BookingDto createBooking(BookingDto bookingDto) {
         // Convert BookingDto to Booking entity
-        Booking booking = modelMapper.map(bookingDto, Booking.class);
+        Booking booking = bookingMapper.toEntity(bookingDto);
         // Set the status of the booking to PENDING
         booking.setStatus(BookingStatus.PENDING);
 
-        // Check if the staff is available at the requested time
-        List<Booking> staffBooking = bookingRepository.findByStaffId(booking.getStaffId());
-        if (staffBooking != null) {
-            for (Booking booking1 : staffBooking) {
-                if (booking1.getTime().equalsIgnoreCase(booking.getTime())) {
-                    // Throw an exception if the staff is not available
-                    throw new BookingException("Staff not available");
+        applyDuration(booking);
+
+        // Check availability and save while holding the staff member's schedule
+        Booking savedBooking = guarded(List.of(booking.getStaffId()), () -> {
+            // A rolled-back attempt leaves its generated id on the entity; insert afresh
+            booking.setId(null);
+            // Check if the staff is available at the requested time
+            checkAvailability(booking);
+            // Save the new booking to the database
+            Booking saved = bookingRepository.save(booking);
+            recordEvents(List.of(saved), BookingEventType.CREATED);
+            return saved;
+        }, saved -> intervalIndex.add(saved));
+        // Convert the saved Booking entity back to a BookingDto and return it
+        return bookingMapper.toDto(savedBooking);
+    }
+
+    /**
+     * Creates several bookings in one pass. Every entry is validated up front,
+     * then conflict-checked against the staff calendars and against the entries
+     * accepted before it, and all accepted entries are written in one
+     * transaction with JDBC batch inserts. When the transaction is retried the
+     * entries are judged afresh and only the committed attempt is reported.
+     * 
+     * @param bookingDtos The bookings to create.
+     * @return One result per entry, in request order.
+     */
+    @Override
+    public List<BatchBookingResultDto> createBookings(List<BookingDto> bookingDtos) {
+        BatchBookingResultDto[] results = new BatchBookingResultDto[bookingDtos.size()];
+        Map<Long, Duration> durations = new HashMap<>();
+        List<Booking> candidates = new ArrayList<>();
+        List<Integer> candidateIndexes = new ArrayList<>();
+
+        // Validate and resolve durations up front, once per service, before any lock is taken
+        for (int i = 0; i < bookingDtos.size(); i++) {
+            try {
+                Booking booking = bookingMapper.toEntity(bookingDtos.get(i));
+                booking.setStatus(BookingStatus.PENDING);
+                validateBatchEntry(booking);
+                applyDuration(booking, serviceId -> durations.computeIfAbsent(serviceId, this::resolveDuration));
+                candidates.add(booking);
+                candidateIndexes.add(i);
+            } catch (RuntimeException e) {
+                results[i] = new BatchBookingResultDto(i, null, e.getMessage());
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            List<Long> staffIds = candidates.stream().map(Booking::getStaffId).distinct().toList();
+            List<BatchOutcome> outcomes = guarded(staffIds, () -> {
+                List<BatchOutcome> attempt = new ArrayList<>(candidates.size());
+                List<Booking> accepted = new ArrayList<>();
+                List<Integer> acceptedIndexes = new ArrayList<>();
+                for (int c = 0; c < candidates.size(); c++) {
+                    Booking booking = candidates.get(c);
+                    int index = candidateIndexes.get(c);
+                    // A rolled-back attempt leaves its generated id on the entity; insert afresh
+                    booking.setId(null);
+                    try {
+                        checkAvailability(booking);
+                        checkWithinBatch(booking, accepted);
+                        accepted.add(booking);
+                        acceptedIndexes.add(index);
+                    } catch (BookingException e) {
+                        attempt.add(new BatchOutcome(index, null, e.getMessage()));
+                    }
                 }
+                // saveAll keeps the order, so saved entities line up with the accepted entries
+                List<Booking> written = bookingRepository.saveAll(accepted);
+                recordEvents(written, BookingEventType.CREATED);
+                for (int a = 0; a < written.size(); a++) {
+                    attempt.add(new BatchOutcome(acceptedIndexes.get(a), written.get(a), null));
+                }
+                return attempt;
+            }, committed -> committed.stream().map(BatchOutcome::booking).filter(Objects::nonNull)
+                    .forEach(intervalIndex::add));
+
+            for (BatchOutcome outcome : outcomes) {
+                results[outcome.index()] = new BatchBookingResultDto(outcome.index(),
+                        outcome.booking() == null ? null : bookingMapper.toDto(outcome.booking()), outcome.error());
+            }
+        }
+        return List.of(results);
+    }
+
+    // Checks what createBooking leaves to the database, so one bad entry cannot fail the whole batch
+    private static void validateBatchEntry(Booking booking) {
+        if (booking.getStaffId() == null) {
+            throw new BookingException("staffId is required");
+        }
+        if (booking.getUserId() == null) {
+            throw new BookingException("userId is required");
+        }
+        if (booking.getServiceId() == null) {
+            throw new BookingException("serviceId is required");
+        }
+        if (booking.getPrice() == null || booking.getPrice() < 0) {
+            throw new BookingException("price is required and must not be negative");
+        }
+    }
+
+    // Result of one batch entry in one attempt: the saved booking or the reason it was rejected
+    /**
+     * Thrown inside a guarded update, rolling it back, when the booking moved to
+     * another staff member after the locks were chosen.
+     */
+    private static final class StaffChangedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        StaffChangedException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private record BatchOutcome(int index, Booking booking, String error) {
+    }
+
+    /**
+     * Reserves a staff slot in memory for the configured time. The slot is
+     * checked against bookings and other holds under the staff member's lock, so
+     * two customers cannot hold the same slot on this node. The calendar is
+     * first brought up to date with the staff member's schedule version, so
+     * bookings committed on other nodes are seen.
+     * 
+     * @param bookingDto The slot to hold.
+     * @return The hold.
+     * @throws BookingException If the slot is not free or the holder, staff
+     *                          member or start time is missing.
+     */
+    @Override
+    public HoldDto placeHold(BookingDto bookingDto) {
+        if (bookingDto.getUserId() == null || bookingDto.getStaffId() == null || bookingDto.getStartTime() == null) {
+            throw new BookingException("userId, staffId and startTime are required to hold a slot");
+        }
+        Instant end = bookingDto.getStartTime().plus(resolveDuration(bookingDto.getServiceId()));
+        HoldDto request = new HoldDto(null, bookingDto.getUserId(), bookingDto.getStaffId(),
+                bookingDto.getServiceId(), bookingDto.getStartTime(), end, bookingDto.getPrice(), null);
+
+        ReentrantLock lock = staffLocks.lockFor(request.getStaffId());
+        lock.lock();
+        try {
+            refreshCalendar(request.getStaffId());
+            boolean taken = !intervalIndex.findOverlapping(request.getStaffId(), request.getStartTime(), end).isEmpty()
+                    || slotHolds.isHeld(request.getStaffId(), request.getStartTime(), end, null);
+            if (taken) {
+                throw new BookingException("Staff not available");
             }
+            return slotHolds.place(request, Instant.now().plusSeconds(holdTtlSeconds));
+        } finally {
+            lock.unlock();
         }
+    }
 
-        // Save the new booking to the database
-        Booking savedBooking = bookingRepository.save(booking);
-        // Convert the saved Booking entity back to a BookingDto and return it
-        return modelMapper.map(savedBooking, BookingDto.class);
+    /**
+     * Confirms a hold. The booking is saved in the same guarded transaction as
+     * any other booking change, and the hold is released only after it commits,
+     * so the slot is never free in between.
+     * 
+     * @param holdId The hold to confirm.
+     * @param userId The user confirming; must be the one who placed the hold.
+     * @return The created booking.
+     * @throws BookingException If the hold does not exist, has expired or
+     *                          belongs to another user.
+     */
+    @Override
+    public BookingDto confirmHold(String holdId, Long userId) {
+        HoldDto hold = ownHold(holdId, userId);
+        Booking savedBooking = guarded(List.of(hold.getStaffId()), () -> {
+            // Re-read under the lock: the hold may have expired or been confirmed meanwhile
+            if (slotHolds.get(holdId) == null) {
+                throw new BookingException("Hold not found or expired");
+            }
+            Booking booking = new Booking();
+            booking.setUserId(hold.getUserId());
+            booking.setStaffId(hold.getStaffId());
+            booking.setServiceId(hold.getServiceId());
+            booking.setStartTime(hold.getStartTime());
+            booking.setEndTime(hold.getEndTime());
+            booking.setPrice(hold.getPrice());
+            booking.setStatus(BookingStatus.PENDING);
+            checkAvailability(booking, holdId);
+            Booking saved = bookingRepository.save(booking);
+            recordEvents(List.of(saved), BookingEventType.CREATED);
+            return saved;
+        }, saved -> {
+            intervalIndex.add(saved);
+            slotHolds.release(holdId);
+        });
+        return bookingMapper.toDto(savedBooking);
+    }
+
+    /**
+     * Releases a hold.
+     * 
+     * @param holdId The hold to release.
+     * @param userId The user releasing; must be the one who placed the hold.
+     * @throws BookingException If the hold does not exist or belongs to another
+     *                          user.
+     */
+    @Override
+    public void releaseHold(String holdId, Long userId) {
+        ownHold(holdId, userId);
+        if (!slotHolds.release(holdId)) {
+            throw new BookingException("Hold not found or expired");
+        }
+    }
+
+    // Another user's hold is reported as missing so hold ids cannot be probed
+    private HoldDto ownHold(String holdId, Long userId) {
+        HoldDto hold = slotHolds.get(holdId);
+        if (hold == null || userId == null || !userId.equals(hold.getUserId())) {
+            throw new BookingException("Hold not found or expired");
+        }
+        return hold;
     }
 
     /**
@@ -67,11 +397,14 @@ public class BookingServiceImpl implements BookingService {
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new BookingException("Booking not found with id: " + id));
         // Convert the found Booking entity to a BookingDto and return it
-        return modelMapper.map(booking, BookingDto.class);
+        return bookingMapper.toDto(booking);
     }
 
     /**
-     * Updates an existing booking by its ID.
+     * Updates an existing booking by its ID. The booking is read again once its
+     * staff members' calendars are locked; if another change moved it to a
+     * different staff member in the meantime, the locks are wrong and the
+     * update starts over with the booking as it is now.
      * 
      * @param id The ID of the booking to update.
      * @param bookingDto The data transfer object containing the updated booking details.
@@ -80,20 +413,57 @@ public class BookingServiceImpl implements BookingService {
      */
     @Override
     public BookingDto updateBooking(Long id, BookingDto bookingDto) {
-        // Find the existing booking by ID, throw an exception if not found
-        Booking existingBooking = bookingRepository.findById(id)
-                .orElseThrow(() -> new BookingException("Booking not found with id: " + id));
+        for (int attempt = 1;; attempt++) {
+            // Find the existing booking by ID, throw an exception if not found
+            Long previousStaffId = bookingRepository.findById(id)
+                    .orElseThrow(() -> new BookingException("Booking not found with id: " + id)).getStaffId();
+
+            // Map the fields from BookingDto to a new Booking entity with the same id
+            Booking booking = bookingMapper.toEntity(bookingDto);
+            booking.setId(id);
+            booking.setStatus(bookingDto.getStatus());
+            // The booking stays with its staff member unless the update names another one
+            if (booking.getStaffId() == null) {
+                booking.setStaffId(previousStaffId);
+            }
 
-        // Map the fields from BookingDto to the existing Booking entity
-        Booking booking = modelMapper.map(bookingDto, Booking.class);
-        // Preserve certain fields from the existing booking
-        booking.setPrice(existingBooking.getPrice());
-        booking.setStatus(bookingDto.getStatus());
+            applyDuration(booking);
 
-        // Save the updated booking to the database
-        Booking updatedBooking = bookingRepository.save(booking);
-        // Convert the updated Booking entity to a BookingDto and return it
-        return modelMapper.map(updatedBooking, BookingDto.class);
+            List<Long> staffIds = Stream.of(previousStaffId, booking.getStaffId())
+                    .filter(Objects::nonNull).distinct().toList();
+            try {
+                Booking updatedBooking = guarded(staffIds, () -> {
+                    Booking current = bookingRepository.findById(id)
+                            .orElseThrow(() -> new BookingException("Booking not found with id: " + id));
+                    if (!Objects.equals(current.getStaffId(), previousStaffId)) {
+                        throw new StaffChangedException();
+                    }
+                    // Preserve the price of the booking as it is now
+                    booking.setPrice(current.getPrice());
+                    // A moved or reactivated booking must not collide with other bookings
+                    if (booking.getStatus() != BookingStatus.CANCELED) {
+                        checkAvailability(booking);
+                    }
+                    // Save the updated booking to the database
+                    Booking saved = bookingRepository.save(booking);
+                    recordEvents(List.of(saved), BookingEventType.UPDATED);
+                    return saved;
+                }, updated -> {
+                    // Move the booking in the staff calendar; only its id and staff member identify the old entry
+                    Booking previous = new Booking();
+                    previous.setId(id);
+                    previous.setStaffId(previousStaffId);
+                    intervalIndex.remove(previous);
+                    intervalIndex.add(updated);
+                });
+                // Convert the updated Booking entity to a BookingDto and return it
+                return bookingMapper.toDto(updatedBooking);
+            } catch (StaffChangedException e) {
+                if (attempt >= maxAttempts) {
+                    throw new BookingException("Booking is being changed, please retry");
+                }
+            }
+        }
     }
 
     /**
@@ -108,23 +478,412 @@ public class BookingServiceImpl implements BookingService {
         // Find the booking by ID, throw an exception if not found
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new BookingException("Booking not found with id: " + id));
-        // Delete the booking from the database
-        bookingRepository.delete(booking);
+        // Delete the booking from the database and free its slot
+        guarded(List.of(booking.getStaffId()), () -> {
+            bookingRepository.delete(booking);
+            recordEvents(List.of(booking), BookingEventType.DELETED);
+            return booking;
+        }, intervalIndex::remove);
         // Return a confirmation message
         return "Deleted Successfully";
     }
 
     /**
-     * Retrieves all bookings.
+     * Lists bookings matching a filter using keyset pagination on id, so every
+     * page costs the same regardless of how deep into the table it is. Every
+     * request gets one page, of the default size when no limit is given.
      * 
-     * @return A list of all bookings as BookingDto.
+     * @param filter  The listing criteria; null fields are ignored.
+     * @param afterId The cursor returned with the previous page, or null.
+     * @param limit   The page size, or null for the default. Capped at the
+     *                maximum page size.
+     * @return The page and the cursor of the next one.
+     * @throws BookingException If the limit is not positive.
      */
     @Override
-    public List<BookingDto> getAllBookings() {
-        // Retrieve all bookings from the database
-        List<Booking> bookings = bookingRepository.findAll();
-        // Convert the list of Booking entities to a list of BookingDto and return it
-        return bookings.stream().map(booking -> modelMapper.map(booking, BookingDto.class))
-                .collect(Collectors.toList());
+    public BookingPageDto findBookings(BookingFilter filter, Long afterId, Integer limit) {
+        int pageSize = Math.min(limit == null ? defaultPageSize : limit, maxPageSize);
+        if (pageSize < 1) {
+            throw new BookingException("limit must be positive");
+        }
+        return findPage(filter == null ? new BookingFilter() : filter, afterId, pageSize);
+    }
+
+    private BookingPageDto findPage(BookingFilter filter, Long afterId, int pageSize) {
+        // Fetch one extra row to learn whether another page follows
+        List<Booking> bookings = bookingRepository.findBy(BookingSpecifications.matching(filter, afterId),
+                query -> query.sortBy(Sort.by("id")).limit(pageSize + 1).all());
+
+        boolean hasMore = bookings.size() > pageSize;
+        List<Booking> page = hasMore ? bookings.subList(0, pageSize) : bookings;
+        List<BookingDto> content = bookingMapper.toDtos(page);
+        Long nextCursor = hasMore ? page.get(page.size() - 1).getId() : null;
+        return new BookingPageDto(content, nextCursor);
+    }
+
+    /**
+     * Streams bookings changed after a watermark straight from a database cursor
+     * to the output, followed by a tombstone for every booking deleted after it.
+     * Each row is detached once written so the persistence context does not
+     * grow, and the output is flushed every few rows so the client starts
+     * receiving data immediately.
+     * <p>
+     * updatedAt is stamped before a transaction commits, so a slow transaction
+     * can commit a row older than one already exported. Incremental exports
+     * therefore start an overlap window before the watermark; rows in that
+     * window may be sent again and are applied idempotently by id.
+     * 
+     * @param since  Only bookings written after this instant, or null for all.
+     * @param format The output format.
+     * @param out    The stream to write to.
+     * @throws IOException If writing fails.
+     */
+    @Override
+    public void exportBookings(Instant since, BookingExportFormat format, OutputStream out) throws IOException {
+        checkExportWatermark(since);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == BookingExportFormat.CSV) {
+            writer.write("id,userId,staffId,serviceId,time,startTime,endTime,price,status,updatedAt,deleted\n");
+        }
+        Instant from = since == null ? null : since.minus(exportOverlap);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        int[] written = { 0 };
+        try {
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<Booking> bookings = bookingRepository.streamUpdatedSince(from)) {
+                    bookings.forEach(booking -> {
+                        BookingDto dto = bookingMapper.toDto(booking);
+                        writeExportLine(writer, format, dto, new Object[] { dto.getId(), dto.getUserId(),
+                                dto.getStaffId(), dto.getServiceId(), dto.getTime(), dto.getStartTime(),
+                                dto.getEndTime(), dto.getPrice(), dto.getStatus(), dto.getUpdatedAt(), false },
+                                written);
+                        entityManager.detach(booking);
+                    });
+                }
+                // A full export is a snapshot, so only incremental ones need tombstones
+                if (from != null) {
+                    try (Stream<BookingEvent> deletions = eventRepository.streamDeletedSince(from)) {
+                        deletions.forEach(event -> {
+                            BookingTombstoneDto tombstone = new BookingTombstoneDto(event.getBookingId(), true,
+                                    event.getOccurredAt());
+                            writeExportLine(writer, format, tombstone, new Object[] { tombstone.getId(), null, null,
+                                    null, null, null, null, null, null, tombstone.getUpdatedAt(), true }, written);
+                            entityManager.detach(event);
+                        });
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    /**
+     * Rejects a watermark whose tombstones may already have been deleted with
+     * the outbox's published events, since an incremental export from it
+     * would silently miss deletions. Such clients need a full export.
+     *
+     * @param since The watermark, or null for a full export.
+     * @throws BookingException If the watermark is older than the retention.
+     */
+    @Override
+    public void checkExportWatermark(Instant since) {
+        if (since != null && since.minus(exportOverlap).isBefore(Instant.now().minus(eventRetention))) {
+            throw new BookingException("since is older than the " + eventRetention
+                    + " event retention; run a full export without since");
+        }
+    }
+
+    private void writeExportLine(Writer writer, BookingExportFormat format, Object json, Object[] csvValues,
+            int[] written) {
+        try {
+            if (format == BookingExportFormat.CSV) {
+                for (int i = 0; i < csvValues.length; i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writer.write(csvField(csvValues[i]));
+                }
+            } else {
+                writer.write(objectMapper.writeValueAsString(json));
+            }
+            writer.write('\n');
+            if (++written[0] % exportFlushEvery == 0) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Quotes a CSV field when it contains a separator, quote or line break
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Finds the free time of every staff member offering a service on one day by
+     * scanning their cached 5-minute slot bitsets. Legacy bookings occupy slots
+     * when their free-form time names a date.
+     *
+     * @param serviceId The service to be booked.
+     * @param date      The day to search.
+     * @param from      Earliest start of interest, or null for the start of day.
+     * @param to        Latest end of interest, or null for the end of day.
+     * @return One entry per staff member with the free windows long enough for
+     *         the service.
+     * @throws BookingException If the time range is empty.
+     */
+    @Override
+    public List<StaffAvailabilityDto> findAvailability(Long serviceId, LocalDate date, LocalTime from,
+            LocalTime to) {
+        Instant windowStart = date.atTime(from == null ? LocalTime.MIDNIGHT : from).atZone(zoneId).toInstant();
+        Instant windowEnd = to == null ? date.plusDays(1).atStartOfDay(zoneId).toInstant()
+                : date.atTime(to).atZone(zoneId).toInstant();
+        if (!windowStart.isBefore(windowEnd)) {
+            throw new BookingException("Invalid time range: from must be before to");
+        }
+        long slotsNeeded = (resolveDuration(serviceId).toMillis() + StaffDayBitsets.SLOT_MILLIS - 1)
+                / StaffDayBitsets.SLOT_MILLIS;
+
+        List<StaffAvailabilityDto> result = new ArrayList<>();
+        for (StaffDto staff : staffClient.getStaffByService(serviceId)) {
+            DayBitset bits = dayBitsets.get(staff.getId(), date, zoneId);
+            int last = bits.slotOf(windowEnd.toEpochMilli());
+            List<TimeSlotDto> freeSlots = new ArrayList<>();
+            // Walk alternating free and busy runs, keeping free runs that fit the service
+            int slot = bits.slotAtOrAfter(windowStart.toEpochMilli());
+            while (slot < last) {
+                int free = bits.nextFree(slot, last);
+                if (free < 0) {
+                    break;
+                }
+                int busy = bits.nextBusy(free, last);
+                if (busy - free >= slotsNeeded) {
+                    freeSlots.add(new TimeSlotDto(Instant.ofEpochMilli(bits.slotStart(free)),
+                            Instant.ofEpochMilli(bits.slotStart(busy))));
+                }
+                slot = busy;
+            }
+            result.add(new StaffAvailabilityDto(staff.getId(), staff.getName(), freeSlots));
+        }
+        return result;
+    }
+
+    /**
+     * Runs a booking change for one or more staff members so that it cannot race
+     * another change to the same calendars. On this node the staff members' lock
+     * stripes are held for the whole transaction and the in-memory update. Across
+     * nodes every change bumps the staff members' {@link StaffSchedule} version;
+     * a transaction that loses the race rolls back and is retried against a
+     * freshly loaded calendar.
+     *
+     * @param staffIds The staff members whose calendars change.
+     * @param work     The database work, run inside a transaction.
+     * @param onCommit Updates the in-memory calendar after a successful commit.
+     * @return The result of the work.
+     * @throws BookingException If the change keeps conflicting with other nodes.
+     */
+    private <T> T guarded(List<Long> staffIds, Supplier<T> work, Consumer<T> onCommit) {
+        Set<Long> distinctIds = new LinkedHashSet<>(staffIds);
+        List<ReentrantLock> locks = staffLocks.lockAll(distinctIds);
+        try {
+            for (int attempt = 1;; attempt++) {
+                Map<Long, Long> committedVersions = new HashMap<>();
+                try {
+                    T result = transactionTemplate.execute(status -> {
+                        for (Long staffId : distinctIds) {
+                            committedVersions.put(staffId, claimSchedule(staffId));
+                        }
+                        return work.get();
+                    });
+                    committedVersions.forEach(intervalIndex::markVersion);
+                    onCommit.accept(result);
+                    distinctIds.forEach(dayBitsets::invalidate);
+                    return result;
+                } catch (OptimisticLockingFailureException e) {
+                    // Another node changed one of these calendars first; reload and try again
+                    distinctIds.forEach(staffId -> {
+                        intervalIndex.invalidate(staffId);
+                        dayBitsets.invalidate(staffId);
+                    });
+                    if (attempt >= maxAttempts) {
+                        throw new BookingException("Staff schedule is being changed, please retry", e);
+                    }
+                }
+            }
+        } finally {
+            staffLocks.unlockAll(locks);
+        }
+    }
+
+    /**
+     * Locks a staff member's schedule row for the current transaction and brings
+     * the in-memory calendar up to date with it.
+     *
+     * @param staffId The staff member.
+     * @return The schedule version this transaction commits.
+     */
+    private Long claimSchedule(Long staffId) {
+        Optional<StaffSchedule> schedule = scheduleRepository.findForUpdateByStaffId(staffId);
+        if (schedule.isPresent()) {
+            Long version = schedule.get().getVersion();
+            if (intervalIndex.syncVersion(staffId, version)) {
+                dayBitsets.invalidate(staffId);
+            }
+            // The version is incremented when the transaction commits
+            return version + 1;
+        }
+        try {
+            StaffSchedule created = scheduleRepository.saveAndFlush(new StaffSchedule(staffId, null));
+            intervalIndex.invalidate(staffId);
+            return created.getVersion();
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the row concurrently
+            throw new ObjectOptimisticLockingFailureException(StaffSchedule.class, staffId, e);
+        }
+    }
+
+    /**
+     * Brings a staff member's in-memory calendar up to date with the schedule
+     * version in the database without claiming it, for checks that change no
+     * booking.
+     */
+    private void refreshCalendar(Long staffId) {
+        scheduleRepository.findById(staffId).ifPresent(schedule -> {
+            if (intervalIndex.syncVersion(staffId, schedule.getVersion())) {
+                // The calendar reloads on next use and will include everything up to this version
+                intervalIndex.markVersion(staffId, schedule.getVersion());
+                dayBitsets.invalidate(staffId);
+            }
+        });
+    }
+
+    /**
+     * Places a booking on the calendar: a legacy free-form time naming a date
+     * becomes its start time, and the end time is derived from the booked
+     * service's duration. Done before any lock is taken because it calls another
+     * service.
+     *
+     * @throws BookingException If an active booking names no date and time, since
+     *                          it could not be checked against other bookings.
+     */
+    private void applyDuration(Booking booking) {
+        applyDuration(booking, this::resolveDuration);
+    }
+
+    private void applyDuration(Booking booking, Function<Long, Duration> durations) {
+        booking.setTime(LegacyTimes.normalize(booking.getTime()));
+        if (booking.getStartTime() == null && booking.getTime() != null) {
+            LegacyTimes.parse(booking.getTime(), zoneId).ifPresent(booking::setStartTime);
+        }
+        if (booking.getStartTime() == null) {
+            if (booking.getStatus() != BookingStatus.CANCELED) {
+                throw new BookingException(
+                        "startTime is required; a free-form time must name a date, e.g. 2024-05-01 10:00");
+            }
+            return;
+        }
+        booking.setEndTime(booking.getStartTime().plus(durations.apply(booking.getServiceId())));
+    }
+
+    /**
+     * Rejects a booking whose slot is already taken by another active booking of
+     * the same staff member, checked against the in-memory interval index.
+     *
+     * @param booking The booking to check.
+     * @throws BookingException If the staff is not available at the requested time.
+     */
+    private void checkAvailability(Booking booking) {
+        checkAvailability(booking, null);
+    }
+
+    /**
+     * Same as {@link #checkAvailability(Booking)}, but also treats slots held by
+     * other customers as taken, ignoring the hold being confirmed.
+     */
+    private void checkAvailability(Booking booking, String ownHoldId) {
+        // An updated booking does not collide with itself
+        boolean taken = intervalIndex.findOverlapping(booking.getStaffId(), booking.getStartTime(),
+                booking.getEndTime()).stream().anyMatch(otherId -> !otherId.equals(booking.getId()))
+                || slotHolds.isHeld(booking.getStaffId(), booking.getStartTime(), booking.getEndTime(), ownHoldId);
+        if (taken) {
+            throw new BookingException("Staff not available");
+        }
+    }
+
+    /**
+     * Writes one outbox event per booking. Must run inside the transaction that
+     * changes the bookings, so the events commit or roll back with them.
+     */
+    private void recordEvents(List<Booking> bookings, BookingEventType type) {
+        Instant now = Instant.now();
+        List<BookingEvent> events = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            try {
+                String payload = objectMapper.writeValueAsString(bookingMapper.toDto(booking));
+                events.add(new BookingEvent(null, booking.getId(), type, payload, now, false, null, null, null));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Cannot serialize booking " + booking.getId(), e);
+            }
+        }
+        eventRepository.saveAll(events);
+    }
+
+    /**
+     * Rejects a batch entry that clashes with an entry accepted earlier in the
+     * same batch, which is not in the calendar yet.
+     */
+    private static void checkWithinBatch(Booking booking, List<Booking> accepted) {
+        for (Booking other : accepted) {
+            if (!Objects.equals(other.getStaffId(), booking.getStaffId())) {
+                continue;
+            }
+            if (booking.getStartTime().isBefore(other.getEndTime())
+                    && other.getStartTime().isBefore(booking.getEndTime())) {
+                throw new BookingException("Staff not available");
+            }
+        }
+    }
+
+    /**
+     * Looks up how long the booked service takes. If the Service module cannot
+     * be reached, the last duration seen for the service is used.
+     *
+     * @param serviceId The ID of the booked service.
+     * @return The service duration, or the configured default if it has none.
+     * @throws BookingException            If the service does not exist.
+     * @throws ServiceUnavailableException If the Service module is down and the
+     *                                     duration was never seen before.
+     */
+    private Duration resolveDuration(Long serviceId) {
+        ServiceDto service;
+        try {
+            service = serviceClient.getServiceById(serviceId);
+        } catch (FeignException.NotFound e) {
+            throw new BookingException("Service not found with id: " + serviceId);
+        } catch (FeignException e) {
+            Duration known = serviceId == null ? null : knownDurations.get(serviceId);
+            if (known == null) {
+                throw new ServiceUnavailableException("Service catalog is unavailable, please retry", e);
+            }
+            return known;
+        }
+        Duration duration = service == null || service.getDurationMinutes() == null
+                ? Duration.ofMinutes(defaultDurationMinutes)
+                : Duration.ofMinutes(service.getDurationMinutes());
+        if (serviceId != null) {
+            knownDurations.put(serviceId, duration);
+        }
+        return duration;
     }
 }
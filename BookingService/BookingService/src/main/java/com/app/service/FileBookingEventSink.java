@@ -0,0 +1,43 @@
+package com.app.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.app.dto.BookingEventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Appends events to a newline-delimited JSON file, one event per line, so they
+ * can be tailed or replayed locally.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.events.sink", havingValue = "file")
+public class FileBookingEventSink implements BookingEventSink {
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Value("${booking.events.file:booking-events.ndjson}")
+	private Path file;
+
+	@Override
+	public synchronized void publish(List<BookingEventDto> events) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+				StandardOpenOption.APPEND)) {
+			for (BookingEventDto event : events) {
+				writer.write(objectMapper.writeValueAsString(event));
+				writer.newLine();
+			}
+		}
+	}
+}
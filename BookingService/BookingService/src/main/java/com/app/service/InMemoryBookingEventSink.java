@@ -0,0 +1,84 @@
+package com.app.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.app.dto.BookingEventDto;
+
+/**
+ * In-process sink for local runs and tests. Hands each batch to the registered
+ * subscribers and keeps the most recent events in a bounded buffer. Every
+ * event gets the next position in arrival order, which, unlike the event id,
+ * can be used to resume reading.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.events.sink", havingValue = "memory", matchIfMissing = true)
+public class InMemoryBookingEventSink implements BookingEventSink {
+
+	private final List<Consumer<List<BookingEventDto>>> subscribers = new CopyOnWriteArrayList<>();
+
+	private final ArrayDeque<BookingEventDto> recent = new ArrayDeque<>();
+
+	// Position of the last event appended; the buffer holds the positions up to it
+	private long position;
+
+	@Value("${booking.events.memory.capacity:10000}")
+	private int capacity;
+
+	/**
+	 * Registers a callback invoked with every published batch.
+	 */
+	public void subscribe(Consumer<List<BookingEventDto>> subscriber) {
+		subscribers.add(subscriber);
+	}
+
+	/**
+	 * Returns the position of the last event received, 0 before the first.
+	 */
+	public synchronized long position() {
+		return position;
+	}
+
+	/**
+	 * Returns the buffered events received after a position, oldest first.
+	 * Events that already left the buffer are not returned.
+	 *
+	 * @param afterPosition A value previously returned by {@link #position()}.
+	 */
+	public synchronized List<BookingEventDto> recentEvents(long afterPosition) {
+		long first = position - recent.size() + 1;
+		List<BookingEventDto> result = new ArrayList<>();
+		long current = first;
+		for (BookingEventDto event : recent) {
+			if (current > afterPosition) {
+				result.add(event);
+			}
+			current++;
+		}
+		return result;
+	}
+
+	@Override
+	public void publish(List<BookingEventDto> events) {
+		synchronized (this) {
+			for (BookingEventDto event : events) {
+				if (recent.size() >= capacity) {
+					recent.removeFirst();
+				}
+				recent.addLast(event);
+				position++;
+			}
+		}
+		List<BookingEventDto> batch = List.copyOf(events);
+		for (Consumer<List<BookingEventDto>> subscriber : subscribers) {
+			subscriber.accept(batch);
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.app.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Reads the free-form {@code time} field that bookings carried before they had
+ * a start time. A value naming a date and a time of day, in any of the
+ * accepted layouts and in any letter case, is placed on the calendar like a
+ * time-ranged booking. A bare time of day such as {@code 10:00 AM} names no
+ * day and cannot be checked against other bookings.
+ */
+public final class LegacyTimes {
+
+	private static final List<DateTimeFormatter> LOCAL_FORMATS = List.of(
+			formatter("yyyy-MM-dd'T'HH:mm[:ss]"),
+			formatter("yyyy-MM-dd HH:mm[:ss]"),
+			formatter("yyyy-MM-dd h:mm[ ]a"),
+			formatter("dd-MM-yyyy HH:mm"),
+			formatter("dd-MM-yyyy h:mm[ ]a"),
+			formatter("dd/MM/yyyy HH:mm"),
+			formatter("dd/MM/yyyy h:mm[ ]a"));
+
+	private LegacyTimes() {
+	}
+
+	/**
+	 * Canonical form of a free-form time: trimmed, inner whitespace collapsed
+	 * and upper case, so equal times written differently compare equal.
+	 *
+	 * @return The normalized time, or null for a null or blank value.
+	 */
+	public static String normalize(String time) {
+		if (time == null || time.isBlank()) {
+			return null;
+		}
+		return time.strip().replaceAll("\\s+", " ").toUpperCase(Locale.ROOT);
+	}
+
+	/**
+	 * Resolves a free-form time to an instant.
+	 *
+	 * @param time The free-form time.
+	 * @param zone The zone of times without an offset.
+	 * @return The instant, or empty if the value does not name a date and time.
+	 */
+	public static Optional<Instant> parse(String time, ZoneId zone) {
+		String normalized = normalize(time);
+		if (normalized == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(OffsetDateTime.parse(normalized).toInstant());
+		} catch (DateTimeParseException e) {
+			// Not an ISO timestamp with offset; try the local layouts
+		}
+		for (DateTimeFormatter format : LOCAL_FORMATS) {
+			try {
+				return Optional.of(LocalDateTime.parse(normalized, format).atZone(zone).toInstant());
+			} catch (DateTimeParseException e) {
+				// Try the next layout
+			}
+		}
+		return Optional.empty();
+	}
+
+	private static DateTimeFormatter formatter(String pattern) {
+		return new DateTimeFormatterBuilder().parseCaseInsensitive().appendPattern(pattern)
+				.toFormatter(Locale.ENGLISH);
+	}
+}
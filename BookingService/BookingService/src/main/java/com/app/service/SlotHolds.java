@@ -0,0 +1,184 @@
+package com.app.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.app.dto.HoldDto;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Node-local store of temporary slot holds. Holds live only in memory and are
+ * queued in a {@link DelayQueue} by expiry; a single reaper thread blocks on
+ * the queue and drops each hold the moment it expires, so nothing ever sweeps
+ * the store. Callers serialize changes per staff member through
+ * {@link StaffLocks}.
+ */
+@Component
+public class SlotHolds {
+
+	private final ConcurrentHashMap<String, Hold> holds = new ConcurrentHashMap<>();
+
+	private final ConcurrentHashMap<Long, Map<String, Hold>> byStaff = new ConcurrentHashMap<>();
+
+	private final DelayQueue<Hold> expiries = new DelayQueue<>();
+
+	// Bumped whenever a staff member's holds change, so derived caches can tell they are stale
+	private final ConcurrentHashMap<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+	private Thread reaper;
+
+	@PostConstruct
+	void startReaper() {
+		reaper = new Thread(this::reap, "slot-hold-reaper");
+		reaper.setDaemon(true);
+		reaper.start();
+	}
+
+	@PreDestroy
+	void stopReaper() {
+		reaper.interrupt();
+	}
+
+	/**
+	 * Stores a hold on [start, end) for the given staff member. The caller must
+	 * have checked the slot is free.
+	 */
+	public HoldDto place(HoldDto request, Instant expiresAt) {
+		Hold hold = new Hold(UUID.randomUUID().toString(), request, expiresAt);
+		holds.put(hold.id, hold);
+		byStaff.computeIfAbsent(request.getStaffId(), id -> new ConcurrentHashMap<>()).put(hold.id, hold);
+		expiries.put(hold);
+		versionOf(request.getStaffId()).incrementAndGet();
+		return hold.dto;
+	}
+
+	/**
+	 * Returns a hold that has not expired yet, or null.
+	 */
+	public HoldDto get(String holdId) {
+		Hold hold = holds.get(holdId);
+		return hold == null || hold.isExpired() ? null : hold.dto;
+	}
+
+	/**
+	 * Drops a hold, e.g. once it was confirmed or the customer gave up.
+	 *
+	 * @return true if the hold existed.
+	 */
+	public boolean release(String holdId) {
+		Hold hold = holds.remove(holdId);
+		if (hold == null) {
+			return false;
+		}
+		expiries.remove(hold);
+		forget(hold);
+		return true;
+	}
+
+	/**
+	 * Tells whether a live hold other than {@code ignoredHoldId} overlaps the
+	 * half-open range [start, end) of the given staff member.
+	 */
+	public boolean isHeld(Long staffId, Instant start, Instant end, String ignoredHoldId) {
+		Map<String, Hold> staffHolds = byStaff.get(staffId);
+		if (staffHolds == null) {
+			return false;
+		}
+		for (Hold hold : staffHolds.values()) {
+			if (!hold.id.equals(ignoredHoldId) && !hold.isExpired()
+					&& hold.dto.getStartTime().isBefore(end) && start.isBefore(hold.dto.getEndTime())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the live holds of a staff member that overlap [start, end), as
+	 * {start, end} pairs in epoch milliseconds.
+	 */
+	public List<long[]> heldIntervals(Long staffId, Instant start, Instant end) {
+		List<long[]> result = new ArrayList<>();
+		Map<String, Hold> staffHolds = byStaff.get(staffId);
+		if (staffHolds != null) {
+			for (Hold hold : staffHolds.values()) {
+				if (!hold.isExpired() && hold.dto.getStartTime().isBefore(end) && start.isBefore(hold.dto.getEndTime())) {
+					result.add(new long[] { hold.dto.getStartTime().toEpochMilli(), hold.dto.getEndTime().toEpochMilli() });
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Current version of a staff member's holds.
+	 */
+	public long version(Long staffId) {
+		return versionOf(staffId).get();
+	}
+
+	private AtomicLong versionOf(Long staffId) {
+		return versions.computeIfAbsent(staffId, id -> new AtomicLong());
+	}
+
+	private void reap() {
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				Hold hold = expiries.take();
+				if (holds.remove(hold.id, hold)) {
+					forget(hold);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void forget(Hold hold) {
+		Map<String, Hold> staffHolds = byStaff.get(hold.dto.getStaffId());
+		if (staffHolds != null) {
+			staffHolds.remove(hold.id);
+		}
+		versionOf(hold.dto.getStaffId()).incrementAndGet();
+	}
+
+	private static final class Hold implements Delayed {
+
+		final String id;
+		final HoldDto dto;
+		final long expiresAtMillis;
+
+		Hold(String id, HoldDto request, Instant expiresAt) {
+			this.id = id;
+			this.dto = new HoldDto(id, request.getUserId(), request.getStaffId(), request.getServiceId(),
+					request.getStartTime(), request.getEndTime(), request.getPrice(), expiresAt);
+			this.expiresAtMillis = expiresAt.toEpochMilli();
+		}
+
+		boolean isExpired() {
+			return System.currentTimeMillis() >= expiresAtMillis;
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(expiresAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			return Long.compare(expiresAtMillis, ((Hold) other).expiresAtMillis);
+		}
+	}
+}
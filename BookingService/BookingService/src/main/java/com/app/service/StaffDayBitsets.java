@@ -0,0 +1,186 @@
+package com.app.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of per-staff, per-day occupancy bitsets with one bit per 5-minute slot
+ * (a set bit means busy). Bitsets are derived from the
+ * {@link BookingIntervalIndex} and the live {@link SlotHolds} on first use and
+ * dropped whenever a booking or hold of the staff member changes, which only
+ * bumps a per-staff version so invalidation is O(1). The cache is bounded and evicts the least recently used
+ * days.
+ */
+@Component
+public class StaffDayBitsets {
+
+	public static final long SLOT_MILLIS = 5 * 60 * 1000L;
+
+	@Autowired
+	private BookingIntervalIndex intervalIndex;
+
+	@Autowired
+	private SlotHolds slotHolds;
+
+	@Value("${booking.availability.cache-size:50000}")
+	private int maxEntries;
+
+	private final ConcurrentHashMap<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+	private final Map<StaffDay, DayBitset> cache = new LinkedHashMap<>(1024, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<StaffDay, DayBitset> eldest) {
+			return size() > maxEntries;
+		}
+	};
+
+	/**
+	 * Returns the occupancy of a staff member for one local day.
+	 *
+	 * @param staffId The staff member.
+	 * @param date    The day.
+	 * @param zone    The zone the day is interpreted in.
+	 * @return The day's bitset; callers must not modify it.
+	 */
+	public DayBitset get(Long staffId, LocalDate date, ZoneId zone) {
+		long version = version(staffId).get();
+		long holdsVersion = slotHolds.version(staffId);
+		StaffDay key = new StaffDay(staffId, date);
+		synchronized (cache) {
+			DayBitset cached = cache.get(key);
+			if (cached != null && cached.version == version && cached.holdsVersion == holdsVersion) {
+				return cached;
+			}
+		}
+		DayBitset computed = compute(staffId, date, zone, version, holdsVersion);
+		synchronized (cache) {
+			cache.put(key, computed);
+		}
+		return computed;
+	}
+
+	/**
+	 * Marks every cached day of a staff member as stale.
+	 */
+	public void invalidate(Long staffId) {
+		version(staffId).incrementAndGet();
+	}
+
+	private AtomicLong version(Long staffId) {
+		return versions.computeIfAbsent(staffId, id -> new AtomicLong());
+	}
+
+	private DayBitset compute(Long staffId, LocalDate date, ZoneId zone, long version, long holdsVersion) {
+		long dayStart = date.atStartOfDay(zone).toInstant().toEpochMilli();
+		long dayEnd = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+		int slots = (int) ((dayEnd - dayStart) / SLOT_MILLIS);
+		long[] words = new long[(slots + 63) >>> 6];
+
+		List<long[]> busy = new ArrayList<>(intervalIndex.busyIntervals(staffId, Instant.ofEpochMilli(dayStart),
+				Instant.ofEpochMilli(dayEnd)));
+		busy.addAll(slotHolds.heldIntervals(staffId, Instant.ofEpochMilli(dayStart), Instant.ofEpochMilli(dayEnd)));
+		for (long[] interval : busy) {
+			int first = (int) ((Math.max(interval[0], dayStart) - dayStart) / SLOT_MILLIS);
+			int last = (int) ((Math.min(interval[1], dayEnd) - dayStart + SLOT_MILLIS - 1) / SLOT_MILLIS);
+			for (int slot = first; slot < last; slot++) {
+				words[slot >>> 6] |= 1L << slot;
+			}
+		}
+		return new DayBitset(dayStart, slots, words, version, holdsVersion);
+	}
+
+	private record StaffDay(Long staffId, LocalDate date) {
+	}
+
+	/**
+	 * Occupancy of one staff member on one day.
+	 */
+	public static final class DayBitset {
+
+		private final long dayStart;
+		private final int slots;
+		private final long[] words;
+		private final long version;
+		private final long holdsVersion;
+
+		DayBitset(long dayStart, int slots, long[] words, long version, long holdsVersion) {
+			this.dayStart = dayStart;
+			this.slots = slots;
+			this.words = words;
+			this.version = version;
+			this.holdsVersion = holdsVersion;
+		}
+
+		public int slots() {
+			return slots;
+		}
+
+		public long slotStart(int slot) {
+			return dayStart + slot * SLOT_MILLIS;
+		}
+
+		/**
+		 * Index of the slot containing the given instant, clamped to the day. Use
+		 * it for the exclusive end of a range.
+		 */
+		public int slotOf(long epochMillis) {
+			long slot = Math.floorDiv(epochMillis - dayStart, SLOT_MILLIS);
+			return (int) Math.max(0, Math.min(slots, slot));
+		}
+
+		/**
+		 * Index of the first slot starting at or after the given instant, clamped
+		 * to the day. Use it for the start of a range so that a free window never
+		 * begins before the requested time.
+		 */
+		public int slotAtOrAfter(long epochMillis) {
+			long slot = Math.floorDiv(epochMillis - dayStart + SLOT_MILLIS - 1, SLOT_MILLIS);
+			return (int) Math.max(0, Math.min(slots, slot));
+		}
+
+		/**
+		 * Finds the next free slot at or after {@code from} and before {@code to}.
+		 *
+		 * @return The slot index, or -1 if every slot in the range is busy.
+		 */
+		public int nextFree(int from, int to) {
+			for (int slot = from; slot < to;) {
+				long free = ~words[slot >>> 6] >>> (slot & 63);
+				if (free != 0) {
+					int found = slot + Long.numberOfTrailingZeros(free);
+					return found < to ? found : -1;
+				}
+				slot = (slot | 63) + 1;
+			}
+			return -1;
+		}
+
+		/**
+		 * Finds the next busy slot at or after {@code from}, or {@code to} if the
+		 * rest of the range is free.
+		 */
+		public int nextBusy(int from, int to) {
+			for (int slot = from; slot < to;) {
+				long busy = words[slot >>> 6] >>> (slot & 63);
+				if (busy != 0) {
+					return Math.min(to, slot + Long.numberOfTrailingZeros(busy));
+				}
+				slot = (slot | 63) + 1;
+			}
+			return to;
+		}
+	}
+}
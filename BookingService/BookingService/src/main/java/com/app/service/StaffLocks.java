@@ -0,0 +1,73 @@
+package com.app.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fixed set of locks striped by staff id. Booking changes for the same staff
+ * member on this node run one at a time while different staff members rarely
+ * contend, without keeping a lock object per staff member.
+ */
+@Component
+public class StaffLocks {
+
+	private final ReentrantLock[] stripes;
+
+	public StaffLocks(@Value("${booking.lock.stripes:64}") int stripes) {
+		if (stripes < 1) {
+			throw new IllegalArgumentException("booking.lock.stripes must be positive");
+		}
+		this.stripes = new ReentrantLock[stripes];
+		for (int i = 0; i < stripes; i++) {
+			this.stripes[i] = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * Returns the lock guarding the given staff member.
+	 */
+	public ReentrantLock lockFor(Long staffId) {
+		return stripes[stripeOf(staffId)];
+	}
+
+	/**
+	 * Locks the stripes of several staff members in a fixed order, so two
+	 * callers locking overlapping sets cannot deadlock.
+	 *
+	 * @return The locks taken, to be passed to {@link #unlockAll}.
+	 */
+	public List<ReentrantLock> lockAll(Collection<Long> staffIds) {
+		TreeSet<Integer> indexes = new TreeSet<>();
+		for (Long staffId : staffIds) {
+			indexes.add(stripeOf(staffId));
+		}
+		List<ReentrantLock> locks = new ArrayList<>(indexes.size());
+		for (int index : indexes) {
+			stripes[index].lock();
+			locks.add(stripes[index]);
+		}
+		return locks;
+	}
+
+	public void unlockAll(List<ReentrantLock> locks) {
+		for (int i = locks.size() - 1; i >= 0; i--) {
+			locks.get(i).unlock();
+		}
+	}
+
+	public int stripeCount() {
+		return stripes.length;
+	}
+
+	private int stripeOf(Long staffId) {
+		// Spread the bits so sequential ids do not cluster on neighbouring stripes
+		long h = staffId == null ? 0 : staffId * 0x9E3779B97F4A7C15L;
+		return (int) ((h >>> 32) % stripes.length);
+	}
+}
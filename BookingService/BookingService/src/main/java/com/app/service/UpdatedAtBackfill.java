@@ -0,0 +1,37 @@
+package com.app.service;
+
+import java.time.Instant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.repository.BookingRepo;
+
+/**
+ * Stamps bookings that predate the updatedAt column on startup. Without a
+ * stamp such rows only appear in full exports, never in incremental ones.
+ */
+@Component
+public class UpdatedAtBackfill {
+
+	private static final Logger log = LoggerFactory.getLogger(UpdatedAtBackfill.class);
+
+	@Autowired
+	private BookingRepo bookingRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		Integer stamped = transactionTemplate.execute(status -> bookingRepository.backfillUpdatedAt(Instant.now()));
+		if (stamped != null && stamped > 0) {
+			log.info("Stamped updatedAt on {} bookings written before it existed", stamped);
+		}
+	}
+}
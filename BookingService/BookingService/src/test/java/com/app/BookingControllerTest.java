@@ -2,6 +2,8 @@ package com.app;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
@@ -16,6 +18,8 @@ import org.springframework.http.ResponseEntity;
 
 import com.app.controller.BookingController;
 import com.app.dto.BookingDto;
+import com.app.dto.BookingFilter;
+import com.app.dto.BookingPageDto;
 import com.app.service.BookingService;
 
 class BookingControllerTest {
@@ -43,10 +47,11 @@ class BookingControllerTest {
 		booking2.setPrice(200.0);
 
 		List<BookingDto> bookings = Arrays.asList(booking1, booking2);
-		when(bookingService.getAllBookings()).thenReturn(bookings);
+		when(bookingService.findBookings(any(BookingFilter.class), isNull(), isNull()))
+				.thenReturn(new BookingPageDto(bookings, null));
 
 		// Act
-		ResponseEntity<List<BookingDto>> response = bookingController.getAllBookings();
+		ResponseEntity<List<BookingDto>> response = bookingController.getAllBookings(new BookingFilter(), null, null);
 
 		// Assert
 		assertNotNull(response);
@@ -0,0 +1,88 @@
+package com.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.app.dto.BookingEventDto;
+import com.app.entity.BookingEventType;
+import com.app.service.FileBookingEventSink;
+import com.app.service.InMemoryBookingEventSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class BookingEventSinkTest {
+
+	@TempDir
+	private Path tempDir;
+
+	@Test
+	void testMemorySinkResumesByPosition() {
+		// Arrange: ids arrive out of order, as they do when transactions commit out of order
+		InMemoryBookingEventSink sink = memorySink(10);
+		List<List<BookingEventDto>> delivered = new ArrayList<>();
+		sink.subscribe(delivered::add);
+
+		// Act
+		sink.publish(List.of(event(5L), event(6L)));
+		long position = sink.position();
+		sink.publish(List.of(event(4L)));
+
+		// Assert
+		assertEquals(2, delivered.size());
+		assertEquals(List.of(4L), sink.recentEvents(position).stream().map(BookingEventDto::getEventId).toList());
+		assertEquals(3, sink.recentEvents(0).size());
+	}
+
+	@Test
+	void testMemorySinkKeepsOnlyTheMostRecentEvents() {
+		// Arrange
+		InMemoryBookingEventSink sink = memorySink(2);
+
+		// Act
+		sink.publish(List.of(event(1L), event(2L), event(3L)));
+
+		// Assert
+		assertEquals(3, sink.position());
+		assertEquals(List.of(2L, 3L), sink.recentEvents(0).stream().map(BookingEventDto::getEventId).toList());
+	}
+
+	@Test
+	void testFileSinkAppendsOneLinePerEvent() throws IOException {
+		// Arrange
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+		FileBookingEventSink sink = new FileBookingEventSink();
+		Path file = tempDir.resolve("events.ndjson");
+		ReflectionTestUtils.setField(sink, "objectMapper", objectMapper);
+		ReflectionTestUtils.setField(sink, "file", file);
+
+		// Act
+		sink.publish(List.of(event(1L)));
+		sink.publish(List.of(event(2L), event(3L)));
+
+		// Assert
+		List<String> lines = Files.readAllLines(file);
+		assertEquals(3, lines.size());
+		assertEquals(2L, objectMapper.readValue(lines.get(1), BookingEventDto.class).getEventId());
+	}
+
+	private static InMemoryBookingEventSink memorySink(int capacity) {
+		InMemoryBookingEventSink sink = new InMemoryBookingEventSink();
+		ReflectionTestUtils.setField(sink, "capacity", capacity);
+		return sink;
+	}
+
+	private static BookingEventDto event(Long id) {
+		return new BookingEventDto(id, 100L + id, BookingEventType.CREATED, Instant.parse("2024-05-01T09:00:00Z"),
+				null);
+	}
+}
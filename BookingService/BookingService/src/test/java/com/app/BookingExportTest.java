@@ -0,0 +1,134 @@
+package com.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.app.dto.BookingExportFormat;
+import com.app.exception.BookingException;
+import com.app.service.BookingService;
+import com.app.service.UpdatedAtBackfill;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+class BookingExportTest {
+
+	@Autowired
+	private BookingService bookingService;
+
+	@Autowired
+	private UpdatedAtBackfill backfill;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void testLateCommitInsideOverlapIsExported() throws IOException {
+		// Arrange: the row was stamped before the watermark but committed after it was read
+		Instant since = Instant.now();
+		insertBooking(601L, since.minusSeconds(10));
+
+		// Act
+		List<JsonNode> rows = export(since, 601L);
+
+		// Assert
+		assertEquals(1, rows.size());
+		assertFalse(rows.get(0).has("deleted"));
+	}
+
+	@Test
+	void testDeletedBookingsEmitTombstones() throws IOException {
+		// Arrange
+		Instant since = Instant.now().minusSeconds(3600);
+		jdbcTemplate.update("insert into booking_event (id, booking_id, type, payload, occurred_at, published) "
+				+ "values (?, ?, ?, ?, ?, ?)", 900_000_602L, 602L, "DELETED", "{}", Timestamp.from(Instant.now()), true);
+
+		// Act
+		List<JsonNode> rows = export(since, 602L);
+
+		// Assert
+		assertEquals(1, rows.size());
+		assertTrue(rows.get(0).get("deleted").asBoolean());
+	}
+
+	@Test
+	void testBackfilledRowsReachIncrementalExports() throws IOException {
+		// Arrange
+		Instant since = Instant.now().minusSeconds(3600);
+		insertBooking(603L, null);
+		assertTrue(export(since, 603L).isEmpty());
+
+		// Act
+		backfill.backfill();
+
+		// Assert
+		assertEquals(1, export(since, 603L).size());
+	}
+
+	@Test
+	void testCsvMarksTombstones() throws IOException {
+		// Arrange
+		Instant since = Instant.now().minusSeconds(3600);
+		jdbcTemplate.update("insert into booking_event (id, booking_id, type, payload, occurred_at, published) "
+				+ "values (?, ?, ?, ?, ?, ?)", 900_000_604L, 604L, "DELETED", "{}", Timestamp.from(Instant.now()), true);
+
+		// Act
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		bookingService.exportBookings(since, BookingExportFormat.CSV, out);
+
+		// Assert
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertTrue(lines[0].endsWith(",updatedAt,deleted"));
+		assertTrue(List.of(lines).stream().anyMatch(line -> line.startsWith("604,,") && line.endsWith(",true")));
+	}
+
+	@Test
+	void testWatermarkOlderThanRetentionIsRejected() {
+		// Arrange: its tombstones may already have been purged from the outbox
+		Instant since = Instant.now().minus(Duration.ofDays(31));
+
+		// Act & Assert
+		assertThrows(BookingException.class,
+				() -> bookingService.exportBookings(since, BookingExportFormat.NDJSON, new ByteArrayOutputStream()));
+	}
+
+	private List<JsonNode> export(Instant since, long id) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		bookingService.exportBookings(since, BookingExportFormat.NDJSON, out);
+		List<JsonNode> rows = new ArrayList<>();
+		for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+			if (!line.isEmpty()) {
+				JsonNode row = objectMapper.readTree(line);
+				if (row.get("id").asLong() == id) {
+					rows.add(row);
+				}
+			}
+		}
+		return rows;
+	}
+
+	private void insertBooking(long id, Instant updatedAt) {
+		jdbcTemplate.update("insert into booking (id, user_id, staff_id, service_id, price, status, updated_at) "
+				+ "values (?, ?, ?, ?, ?, ?, ?)", id, 1L, 1L, 1L, 100.0, "CANCELED",
+				updatedAt == null ? null : Timestamp.from(updatedAt));
+	}
+}
@@ -0,0 +1,157 @@
+package com.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.app.entity.Booking;
+import com.app.entity.BookingStatus;
+import com.app.repository.BookingRepo;
+import com.app.service.BookingIntervalIndex;
+
+class BookingIntervalIndexTest {
+
+	private static final Instant NINE = Instant.parse("2040-05-01T09:00:00Z");
+
+	@Mock
+	private BookingRepo bookingRepository;
+
+	@InjectMocks
+	private BookingIntervalIndex intervalIndex;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		when(bookingRepository.findByStaffIdAndEndTimeAfterAndStatusNot(anyLong(), any(), any()))
+				.thenReturn(Collections.emptyList());
+	}
+
+	@Test
+	void testFindOverlapping() {
+		// Arrange: 09:00-10:00, 10:00-10:30 and a long 08:00-12:00 booking for another staff
+		intervalIndex.add(booking(1L, 1L, 0, 60));
+		intervalIndex.add(booking(2L, 1L, 60, 90));
+		intervalIndex.add(booking(3L, 2L, -60, 180));
+
+		// Act & Assert
+		assertEquals(List.of(1L), intervalIndex.findOverlapping(1L, at(30), at(45)));
+		assertEquals(List.of(2L, 1L), intervalIndex.findOverlapping(1L, at(59), at(61)));
+		assertTrue(intervalIndex.findOverlapping(1L, at(90), at(120)).isEmpty());
+		assertTrue(intervalIndex.findOverlapping(1L, at(-30), at(0)).isEmpty());
+	}
+
+	@Test
+	void testLegacyDatedTimesOccupyDefaultDuration() {
+		// Arrange: a legacy booking at 09:00 and one with only a time of day
+		ReflectionTestUtils.setField(intervalIndex, "zoneId", ZoneOffset.UTC);
+		ReflectionTestUtils.setField(intervalIndex, "defaultDurationMinutes", 30);
+		when(bookingRepository.findByStaffIdAndStartTimeIsNullAndTimeIsNotNullAndStatusNot(anyLong(), any()))
+				.thenReturn(List.of(legacyBooking(7L, "2040-05-01 9:00 am"), legacyBooking(8L, "10:00 AM")));
+
+		// Act & Assert
+		assertEquals(List.of(7L), intervalIndex.findOverlapping(1L, at(15), at(20)));
+		assertTrue(intervalIndex.findOverlapping(1L, at(30), at(60)).isEmpty());
+	}
+
+	@Test
+	void testRemoveFreesSlot() {
+		// Arrange
+		Booking booking = booking(1L, 1L, 0, 60);
+		intervalIndex.add(booking);
+
+		// Act
+		intervalIndex.remove(booking);
+
+		// Assert
+		assertTrue(intervalIndex.findOverlapping(1L, at(0), at(60)).isEmpty());
+	}
+
+	@Test
+	void testCalendarLoadsOnlyRecentAndUpcomingBookings() {
+		// Arrange
+		ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+
+		// Act
+		intervalIndex.findOverlapping(1L, at(0), at(30));
+
+		// Assert: the cutoff trails now by the default week of history
+		verify(bookingRepository).findByStaffIdAndEndTimeAfterAndStatusNot(eq(1L), cutoff.capture(),
+				eq(BookingStatus.CANCELED));
+		Instant weekAgo = Instant.now().minus(Duration.ofDays(7));
+		assertTrue(!cutoff.getValue().isAfter(weekAgo) && cutoff.getValue().isAfter(weekAgo.minusSeconds(3600)));
+	}
+
+	@Test
+	void testRangesBeforeCutoffReadTheDatabase() {
+		// Arrange: a back-dated range a year ago, booked in the database
+		Booking past = booking(9L, 1L, 0, 60);
+		past.setStartTime(Instant.now().minus(Duration.ofDays(365)));
+		past.setEndTime(past.getStartTime().plusSeconds(3600));
+		when(bookingRepository.findByStaffIdAndStartTimeBeforeAndEndTimeAfterAndStatusNot(anyLong(), any(), any(),
+				any())).thenReturn(List.of(past));
+
+		// Act
+		List<Long> overlapping = intervalIndex.findOverlapping(1L, past.getStartTime(),
+				past.getStartTime().plusSeconds(1800));
+
+		// Assert
+		assertEquals(List.of(9L), overlapping);
+	}
+
+	@Test
+	void testEndedBookingsStayOutOfTheCalendar() {
+		// Arrange: a booking that ended a month ago
+		Booking ended = booking(10L, 1L, 0, 60);
+		ended.setStartTime(Instant.now().minus(Duration.ofDays(30)));
+		ended.setEndTime(ended.getStartTime().plusSeconds(3600));
+
+		// Act
+		intervalIndex.add(ended);
+
+		// Assert: only the database would report it
+		assertTrue(intervalIndex.findOverlapping(1L, ended.getStartTime(), ended.getEndTime()).isEmpty());
+		verify(bookingRepository).findByStaffIdAndStartTimeBeforeAndEndTimeAfterAndStatusNot(1L, ended.getEndTime(),
+				ended.getStartTime(), BookingStatus.CANCELED);
+	}
+
+	private static Booking booking(Long id, Long staffId, int startMinute, int endMinute) {
+		Booking booking = new Booking();
+		booking.setId(id);
+		booking.setStaffId(staffId);
+		booking.setStartTime(at(startMinute));
+		booking.setEndTime(at(endMinute));
+		booking.setStatus(BookingStatus.PENDING);
+		return booking;
+	}
+
+	private static Booking legacyBooking(Long id, String time) {
+		Booking booking = new Booking();
+		booking.setId(id);
+		booking.setStaffId(1L);
+		booking.setTime(time);
+		booking.setStatus(BookingStatus.PENDING);
+		return booking;
+	}
+
+	private static Instant at(int minute) {
+		return NINE.plusSeconds(minute * 60L);
+	}
+}
@@ -0,0 +1,122 @@
+package com.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.app.dto.BookingDto;
+import com.app.dto.BookingFilter;
+import com.app.dto.BookingPageDto;
+import com.app.entity.BookingStatus;
+import com.app.exception.BookingException;
+import com.app.service.BookingService;
+
+@SpringBootTest
+class BookingListingTest {
+
+	private static final Instant NINE = Instant.parse("2032-04-04T09:00:00Z");
+
+	@Autowired
+	private BookingService bookingService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void testCursorWalksEveryBookingOnce() {
+		// Arrange
+		long userId = 501L;
+		List<Long> ids = seed(userId, 7);
+		BookingFilter filter = filterByUser(userId);
+
+		// Act
+		List<Long> walked = new ArrayList<>();
+		BookingPageDto page = bookingService.findBookings(filter, null, 3);
+		page.getContent().forEach(booking -> walked.add(booking.getId()));
+		while (page.getNextCursor() != null) {
+			page = bookingService.findBookings(filter, page.getNextCursor(), 3);
+			page.getContent().forEach(booking -> walked.add(booking.getId()));
+		}
+
+		// Assert
+		assertEquals(ids, walked);
+	}
+
+	@Test
+	void testListingWithoutLimitGetsDefaultPage() {
+		// Arrange: the test properties set a default page of 3
+		long userId = 502L;
+		List<Long> ids = seed(userId, 5);
+
+		// Act
+		BookingPageDto page = bookingService.findBookings(filterByUser(userId), null, null);
+
+		// Assert
+		assertEquals(ids.subList(0, 3), page.getContent().stream().map(BookingDto::getId).toList());
+		assertEquals(ids.get(2), page.getNextCursor());
+	}
+
+	@Test
+	void testLimitCappedAtMaximumPageSize() {
+		// Arrange: the test properties cap pages at 4
+		long userId = 504L;
+		List<Long> ids = seed(userId, 6);
+
+		// Act
+		BookingPageDto page = bookingService.findBookings(filterByUser(userId), null, 1_000);
+
+		// Assert
+		assertEquals(ids.subList(0, 4), page.getContent().stream().map(BookingDto::getId).toList());
+		assertEquals(ids.get(3), page.getNextCursor());
+	}
+
+	@Test
+	void testFiltersCombine() {
+		// Arrange: bookings start hourly from 09:00; every other one is canceled
+		long userId = 503L;
+		List<Long> ids = seed(userId, 6);
+		BookingFilter filter = filterByUser(userId);
+		filter.setStatus(BookingStatus.PENDING);
+		filter.setFrom(NINE.plusSeconds(3600));
+		filter.setTo(NINE.plusSeconds(5 * 3600));
+
+		// Act
+		BookingPageDto page = bookingService.findBookings(filter, null, 10);
+
+		// Assert: 09:00 is before the range, 10:00 and 12:00 are canceled
+		assertEquals(List.of(ids.get(2), ids.get(4)), page.getContent().stream().map(BookingDto::getId).toList());
+	}
+
+	@Test
+	void testRejectsNonPositiveLimit() {
+		assertThrows(BookingException.class, () -> bookingService.findBookings(new BookingFilter(), null, 0));
+	}
+
+	private List<Long> seed(long userId, int count) {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			long id = userId * 1_000 + i;
+			Instant start = NINE.plusSeconds(i * 3600L);
+			jdbcTemplate.update("insert into booking (id, user_id, staff_id, service_id, start_time, end_time, price, "
+					+ "status) values (?, ?, ?, ?, ?, ?, ?, ?)", id, userId, 1L, 1L, Timestamp.from(start),
+					Timestamp.from(start.plusSeconds(1800)), 100.0, i % 2 == 0 ? "PENDING" : "CANCELED");
+			ids.add(id);
+		}
+		return ids;
+	}
+
+	private static BookingFilter filterByUser(long userId) {
+		BookingFilter filter = new BookingFilter();
+		filter.setUserId(userId);
+		return filter;
+	}
+}
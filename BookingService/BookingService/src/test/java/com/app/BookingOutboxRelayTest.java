@@ -0,0 +1,162 @@
+package com.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.entity.BookingEvent;
+import com.app.entity.BookingEventType;
+import com.app.repository.BookingEventRepo;
+import com.app.service.BookingEventSink;
+import com.app.service.BookingOutboxRelay;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+class BookingOutboxRelayTest {
+
+	@Mock
+	private BookingEventRepo eventRepository;
+
+	@Mock
+	private BookingEventSink sink;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@InjectMocks
+	private BookingOutboxRelay relay;
+
+	private boolean inTransaction;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		ReflectionTestUtils.setField(relay, "objectMapper", new ObjectMapper().registerModule(new JavaTimeModule()));
+		ReflectionTestUtils.setField(relay, "batchSize", 10);
+		ReflectionTestUtils.setField(relay, "claimTimeout", Duration.ofMinutes(1));
+		ReflectionTestUtils.setField(relay, "retention", Duration.ofDays(30));
+		ReflectionTestUtils.setField(relay, "cleanupBatchSize", 2);
+		// Run callbacks inline, remembering whether a transaction is open
+		when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+			inTransaction = true;
+			try {
+				return invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null);
+			} finally {
+				inTransaction = false;
+			}
+		});
+		doAnswer(invocation -> {
+			inTransaction = true;
+			try {
+				invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+				return null;
+			} finally {
+				inTransaction = false;
+			}
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+
+	@Test
+	void testPublishesOutsideTheTransactionThenMarks() throws Exception {
+		// Arrange
+		when(eventRepository.findClaimable(any(), any())).thenReturn(List.of(event(1L), event(2L)));
+		doAnswer(invocation -> {
+			assertFalse(inTransaction, "sink called while the claim transaction was open");
+			return null;
+		}).when(sink).publish(anyList());
+
+		// Act
+		int published = relay.publishBatch();
+
+		// Assert
+		assertEquals(2, published);
+		verify(eventRepository).claim(eq(List.of(1L, 2L)), any(Instant.class));
+		verify(eventRepository).markPublished(List.of(1L, 2L));
+	}
+
+	@Test
+	void testSinkFailureReleasesTheClaim() throws Exception {
+		// Arrange
+		when(eventRepository.findClaimable(any(), any())).thenReturn(List.of(event(3L)));
+		doThrow(new IOException("disk full")).when(sink).publish(anyList());
+
+		// Act & Assert
+		assertThrows(IllegalStateException.class, () -> relay.publishBatch());
+		verify(eventRepository).releaseClaim(List.of(3L));
+		verify(eventRepository, never()).markPublished(anyList());
+	}
+
+	@Test
+	void testEmptyOutboxPublishesNothing() throws Exception {
+		// Arrange
+		when(eventRepository.findClaimable(any(), any())).thenReturn(List.of());
+
+		// Act & Assert
+		assertEquals(0, relay.publishBatch());
+		verify(sink, never()).publish(anyList());
+	}
+
+	@Test
+	void testUnreadablePayloadIsQuarantinedAndTheRestPublished() throws Exception {
+		// Arrange
+		BookingEvent poison = event(5L);
+		poison.setPayload("{not json");
+		when(eventRepository.findClaimable(any(), any())).thenReturn(List.of(event(4L), poison, event(6L)));
+
+		// Act
+		int published = relay.publishBatch();
+
+		// Assert
+		assertEquals(3, published);
+		verify(eventRepository).quarantine(eq(5L), any(Instant.class), anyString());
+		verify(sink).publish(argThat(batch -> batch.size() == 2));
+		verify(eventRepository).markPublished(List.of(4L, 6L));
+	}
+
+	@Test
+	void testPurgeDeletesPublishedEventsInChunks() {
+		// Arrange
+		when(eventRepository.findPublishedBefore(any(), any())).thenReturn(List.of(1L, 2L), List.of(3L));
+		when(eventRepository.deleteByIds(anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+		// Act
+		int deleted = relay.purgePublished();
+
+		// Assert
+		assertEquals(3, deleted);
+		verify(eventRepository).deleteByIds(List.of(1L, 2L));
+		verify(eventRepository).deleteByIds(List.of(3L));
+	}
+
+	private static BookingEvent event(Long id) {
+		return new BookingEvent(id, 100L + id, BookingEventType.CREATED, "{\"id\":" + (100L + id) + "}",
+				Instant.parse("2024-05-01T09:00:00Z"), false, null, null, null);
+	}
+}
@@ -0,0 +1,237 @@
+package com.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.app.client.ServiceClient;
+import com.app.dto.BatchBookingResultDto;
+import com.app.dto.BookingDto;
+import com.app.dto.HoldDto;
+import com.app.dto.ServiceDto;
+import com.app.entity.Booking;
+import com.app.entity.StaffSchedule;
+import com.app.exception.BookingException;
+import com.app.repository.BookingRepo;
+import com.app.service.BookingService;
+
+/**
+ * Runs booking changes against the database the way two nodes would see it:
+ * the other node's writes go straight to the tables and bump the staff
+ * schedule version without touching this node's calendar.
+ */
+@SpringBootTest
+class BookingServiceConcurrencyTest {
+
+	private static final Instant NINE = Instant.parse("2031-03-03T09:00:00Z");
+
+	@MockBean
+	private ServiceClient serviceClient;
+
+	@SpyBean
+	private BookingRepo bookingRepository;
+
+	@Autowired
+	private BookingService bookingService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@BeforeEach
+	void setUp() {
+		reset(bookingRepository);
+		when(serviceClient.getServiceById(any())).thenReturn(new ServiceDto(1L, "Haircut", 100.0, 30));
+	}
+
+	@Test
+	void testSeesBookingCommittedByAnotherNode() {
+		// Arrange: this node has the calendar cached, then another node books 10:00
+		bookingService.createBooking(request(101L, 0));
+		jdbcTemplate.update("insert into booking (id, user_id, staff_id, service_id, start_time, end_time, price, status) "
+				+ "values (?, ?, ?, ?, ?, ?, ?, ?)", 900_000_001L, 2L, 101L, 1L, Timestamp.from(at(60)),
+				Timestamp.from(at(90)), 100.0, "PENDING");
+		jdbcTemplate.update("update staff_schedule set version = version + 1 where staff_id = ?", 101L);
+
+		// Act & Assert
+		assertThrows(BookingException.class, () -> bookingService.createBooking(request(101L, 75)));
+	}
+
+	@Test
+	void testRetryAfterLosingTheVersionRaceInsertsOnce() {
+		// Arrange: the first attempt writes its row, then loses the race and rolls back
+		List<Long> idsSaved = new ArrayList<>();
+		doAnswer(invocation -> {
+			entityManager.persist(invocation.getArgument(0));
+			entityManager.flush();
+			throw new ObjectOptimisticLockingFailureException(StaffSchedule.class, 102L);
+		}).doAnswer(invocation -> {
+			// What save does: persist a new entity, merge one that carries an id
+			Booking booking = invocation.getArgument(0);
+			idsSaved.add(booking.getId());
+			if (booking.getId() == null) {
+				entityManager.persist(booking);
+				return booking;
+			}
+			return entityManager.merge(booking);
+		}).when(bookingRepository).save(any(Booking.class));
+
+		// Act
+		BookingDto created = bookingService.createBooking(request(102L, 0));
+
+		// Assert
+		assertNotNull(created.getId());
+		assertEquals(Collections.singletonList(null), idsSaved);
+		assertEquals(1, jdbcTemplate.queryForObject("select count(*) from booking where staff_id = ?", Integer.class,
+				102L));
+	}
+
+	@Test
+	void testUpdateWithoutStaffKeepsTheStaffMember() {
+		// Arrange
+		BookingDto created = bookingService.createBooking(request(103L, 0));
+		BookingDto update = request(null, 60);
+		update.setStatus(created.getStatus());
+
+		// Act
+		BookingDto updated = bookingService.updateBooking(created.getId(), update);
+
+		// Assert
+		assertEquals(103L, updated.getStaffId());
+		assertEquals(at(60), updated.getStartTime());
+	}
+
+	@Test
+	void testUpdateRetriesWhenAnotherNodeMovedTheBooking() {
+		// Arrange: right after the update reads the booking, another node moves it to staff member 110
+		BookingDto created = bookingService.createBooking(request(109L, 0));
+		doAnswer(invocation -> {
+			Optional<Booking> found = Optional.ofNullable(entityManager.find(Booking.class, created.getId()));
+			jdbcTemplate.update("update booking set staff_id = ? where id = ?", 110L, created.getId());
+			return found;
+		}).doAnswer(invocation -> Optional.ofNullable(entityManager.find(Booking.class, created.getId())))
+				.when(bookingRepository).findById(created.getId());
+		BookingDto update = request(null, 60);
+		update.setStatus(created.getStatus());
+
+		// Act
+		BookingDto updated = bookingService.updateBooking(created.getId(), update);
+
+		// Assert: the retry locked and kept the staff member the booking has now
+		assertEquals(110L, updated.getStaffId());
+		assertEquals(110L, jdbcTemplate.queryForObject("select staff_id from booking where id = ?", Long.class,
+				created.getId()));
+	}
+
+	@Test
+	void testBatchReportsEveryEntryInRequestOrder() {
+		// Arrange: a valid entry, one without a user, one clashing with the first, and another valid one
+		BookingDto missingUser = request(104L, 60);
+		missingUser.setUserId(null);
+		List<BookingDto> batch = List.of(request(104L, 0), missingUser, request(104L, 15), request(105L, 0));
+
+		// Act
+		List<BatchBookingResultDto> results = bookingService.createBookings(batch);
+
+		// Assert
+		assertEquals(List.of(0, 1, 2, 3), results.stream().map(BatchBookingResultDto::getIndex).toList());
+		assertEquals(at(0), results.get(0).getBooking().getStartTime());
+		assertEquals("userId is required", results.get(1).getError());
+		assertEquals("Staff not available", results.get(2).getError());
+		assertEquals(105L, results.get(3).getBooking().getStaffId());
+		assertEquals(1, jdbcTemplate.queryForObject("select count(*) from booking where staff_id = ?", Integer.class,
+				104L));
+	}
+
+	@Test
+	void testBatchRetryReportsOnlyTheCommittedAttempt() {
+		// Arrange: a hold blocks the first entry on the first attempt and is released before the retry
+		HoldDto hold = bookingService.placeHold(request(106L, 0));
+		doAnswer(invocation -> {
+			bookingService.releaseHold(hold.getHoldId(), 1L);
+			for (Booking booking : invocation.<List<Booking>>getArgument(0)) {
+				entityManager.persist(booking);
+			}
+			entityManager.flush();
+			throw new ObjectOptimisticLockingFailureException(StaffSchedule.class, 106L);
+		}).doAnswer(invocation -> {
+			List<Booking> bookings = invocation.getArgument(0);
+			bookings.forEach(entityManager::persist);
+			return bookings;
+		}).when(bookingRepository).saveAll(any());
+
+		// Act
+		List<BatchBookingResultDto> results = bookingService.createBookings(List.of(request(106L, 0), request(106L, 60)));
+
+		// Assert: both entries are reported as booked, each with its own slot
+		assertNull(results.get(0).getError());
+		assertEquals(at(0), results.get(0).getBooking().getStartTime());
+		assertEquals(at(60), results.get(1).getBooking().getStartTime());
+		assertEquals(2, jdbcTemplate.queryForObject("select count(*) from booking where staff_id = ?", Integer.class,
+				106L));
+	}
+
+	@Test
+	void testHoldSeesBookingCommittedByAnotherNode() {
+		// Arrange: this node has the calendar cached, then another node books 10:00
+		bookingService.createBooking(request(107L, 0));
+		jdbcTemplate.update("insert into booking (id, user_id, staff_id, service_id, start_time, end_time, price, status) "
+				+ "values (?, ?, ?, ?, ?, ?, ?, ?)", 900_000_107L, 2L, 107L, 1L, Timestamp.from(at(60)),
+				Timestamp.from(at(90)), 100.0, "PENDING");
+		jdbcTemplate.update("update staff_schedule set version = version + 1 where staff_id = ?", 107L);
+
+		// Act & Assert
+		assertThrows(BookingException.class, () -> bookingService.placeHold(request(107L, 75)));
+	}
+
+	@Test
+	void testOnlyTheHolderConfirmsOrReleases() {
+		// Arrange
+		HoldDto hold = bookingService.placeHold(request(108L, 0));
+
+		// Act & Assert
+		assertThrows(BookingException.class, () -> bookingService.confirmHold(hold.getHoldId(), 2L));
+		assertThrows(BookingException.class, () -> bookingService.releaseHold(hold.getHoldId(), 2L));
+		assertEquals(108L, bookingService.confirmHold(hold.getHoldId(), 1L).getStaffId());
+	}
+
+	private static BookingDto request(Long staffId, int startMinute) {
+		BookingDto dto = new BookingDto();
+		dto.setUserId(1L);
+		dto.setStaffId(staffId);
+		dto.setServiceId(1L);
+		dto.setPrice(100.0);
+		dto.setStartTime(at(startMinute));
+		return dto;
+	}
+
+	private static Instant at(int minute) {
+		return NINE.plusSeconds(minute * 60L);
+	}
+}
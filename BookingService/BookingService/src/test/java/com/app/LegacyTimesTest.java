@@ -0,0 +1,39 @@
+package com.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.app.service.LegacyTimes;
+
+class LegacyTimesTest {
+
+	private static final Instant TEN = Instant.parse("2024-05-01T10:00:00Z");
+
+	@Test
+	void testNormalize() {
+		assertEquals("2024-05-01 10:00 AM", LegacyTimes.normalize("  2024-05-01   10:00 am "));
+		assertNull(LegacyTimes.normalize(" "));
+	}
+
+	@Test
+	void testParseDatedLayoutsInAnyCase() {
+		assertEquals(Optional.of(TEN), LegacyTimes.parse("2024-05-01T10:00", ZoneOffset.UTC));
+		assertEquals(Optional.of(TEN), LegacyTimes.parse("2024-05-01 10:00 am", ZoneOffset.UTC));
+		assertEquals(Optional.of(TEN), LegacyTimes.parse("2024-05-01 10:00AM", ZoneOffset.UTC));
+		assertEquals(Optional.of(TEN), LegacyTimes.parse("01/05/2024 10:00", ZoneOffset.UTC));
+		assertEquals(Optional.of(TEN), LegacyTimes.parse("2024-05-01T12:00:00+02:00", ZoneOffset.UTC));
+	}
+
+	@Test
+	void testBareTimeOfDayHasNoInstant() {
+		assertTrue(LegacyTimes.parse("10:00 AM", ZoneOffset.UTC).isEmpty());
+		assertTrue(LegacyTimes.parse(null, ZoneOffset.UTC).isEmpty());
+	}
+}
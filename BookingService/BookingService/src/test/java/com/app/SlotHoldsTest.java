@@ -0,0 +1,54 @@
+package com.app;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import com.app.dto.HoldDto;
+import com.app.service.SlotHolds;
+
+class SlotHoldsTest {
+
+	private static final Instant NINE = Instant.parse("2024-05-01T09:00:00Z");
+
+	private final SlotHolds slotHolds = new SlotHolds();
+
+	@Test
+	void testHoldBlocksOverlappingRange() {
+		// Arrange
+		HoldDto hold = slotHolds.place(request(1L, 0, 30), Instant.now().plusSeconds(60));
+
+		// Act & Assert
+		assertTrue(slotHolds.isHeld(1L, at(15), at(45), null));
+		assertFalse(slotHolds.isHeld(1L, at(30), at(60), null));
+		assertFalse(slotHolds.isHeld(2L, at(0), at(30), null));
+		assertFalse(slotHolds.isHeld(1L, at(0), at(30), hold.getHoldId()));
+	}
+
+	@Test
+	void testReleasedAndExpiredHoldsFreeTheSlot() {
+		// Arrange
+		HoldDto released = slotHolds.place(request(1L, 0, 30), Instant.now().plusSeconds(60));
+		HoldDto expired = slotHolds.place(request(1L, 60, 90), Instant.now().minusSeconds(1));
+
+		// Act
+		assertTrue(slotHolds.release(released.getHoldId()));
+
+		// Assert
+		assertFalse(slotHolds.isHeld(1L, at(0), at(30), null));
+		assertFalse(slotHolds.isHeld(1L, at(60), at(90), null));
+		assertNull(slotHolds.get(expired.getHoldId()));
+	}
+
+	private static HoldDto request(Long staffId, int startMinute, int endMinute) {
+		return new HoldDto(null, 7L, staffId, 1L, at(startMinute), at(endMinute), 100.0, null);
+	}
+
+	private static Instant at(int minute) {
+		return NINE.plusSeconds(minute * 60L);
+	}
+}
@@ -0,0 +1,118 @@
+package com.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.app.service.BookingIntervalIndex;
+import com.app.service.SlotHolds;
+import com.app.service.StaffDayBitsets;
+import com.app.service.StaffDayBitsets.DayBitset;
+
+class StaffDayBitsetsTest {
+
+	private static final LocalDate DAY = LocalDate.of(2024, 5, 1);
+	private static final long MIDNIGHT = DAY.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+
+	@Mock
+	private BookingIntervalIndex intervalIndex;
+
+	@Mock
+	private SlotHolds slotHolds;
+
+	@InjectMocks
+	private StaffDayBitsets dayBitsets;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		ReflectionTestUtils.setField(dayBitsets, "maxEntries", 16);
+		when(slotHolds.heldIntervals(anyLong(), any(), any())).thenReturn(new ArrayList<>());
+	}
+
+	@Test
+	void testBusyIntervalsCoverPartialSlots() {
+		// Arrange: 09:00-09:32 from a booking, 10:03-10:10 from a hold
+		when(intervalIndex.busyIntervals(anyLong(), any(), any())).thenReturn(List.of(interval(540, 572)));
+		when(slotHolds.heldIntervals(anyLong(), any(), any())).thenReturn(new ArrayList<>(List.of(interval(603, 610))));
+
+		// Act
+		DayBitset bits = dayBitsets.get(1L, DAY, ZoneOffset.UTC);
+
+		// Assert: 09:00-09:35 and 10:00-10:10 are busy
+		assertEquals(288, bits.slots());
+		assertEquals(108, bits.nextBusy(0, 288));
+		assertEquals(115, bits.nextFree(108, 288));
+		assertEquals(120, bits.nextBusy(115, 288));
+		assertEquals(122, bits.nextFree(120, 288));
+		assertEquals(288, bits.nextBusy(122, 288));
+	}
+
+	@Test
+	void testStartBoundRoundsUpAndEndBoundRoundsDown() {
+		// Arrange
+		when(intervalIndex.busyIntervals(anyLong(), any(), any())).thenReturn(List.of());
+
+		// Act
+		DayBitset bits = dayBitsets.get(1L, DAY, ZoneOffset.UTC);
+
+		// Assert: 09:02 starts the search at 09:05, an end at 09:02 stops at 09:00
+		assertEquals(108, bits.slotAtOrAfter(millis(540)));
+		assertEquals(109, bits.slotAtOrAfter(millis(542)));
+		assertEquals(108, bits.slotOf(millis(542)));
+		assertEquals(0, bits.slotAtOrAfter(millis(-10)));
+		assertEquals(288, bits.slotOf(millis(24 * 60 + 10)));
+	}
+
+	@Test
+	void testFullyBusyRangeAcrossWordBoundary() {
+		// Arrange: 05:00-06:00 covers slots 60-71, crossing the first 64-bit word
+		when(intervalIndex.busyIntervals(anyLong(), any(), any())).thenReturn(List.of(interval(300, 360)));
+
+		// Act
+		DayBitset bits = dayBitsets.get(1L, DAY, ZoneOffset.UTC);
+
+		// Assert
+		assertEquals(-1, bits.nextFree(60, 72));
+		assertEquals(72, bits.nextFree(60, 288));
+	}
+
+	@Test
+	void testInvalidateRebuildsTheDay() {
+		// Arrange
+		when(intervalIndex.busyIntervals(anyLong(), any(), any())).thenReturn(List.of());
+		DayBitset first = dayBitsets.get(1L, DAY, ZoneOffset.UTC);
+
+		// Act
+		DayBitset cached = dayBitsets.get(1L, DAY, ZoneOffset.UTC);
+		dayBitsets.invalidate(1L);
+		DayBitset rebuilt = dayBitsets.get(1L, DAY, ZoneOffset.UTC);
+
+		// Assert
+		assertSame(first, cached);
+		assertNotSame(first, rebuilt);
+	}
+
+	private static long[] interval(int startMinute, int endMinute) {
+		return new long[] { millis(startMinute), millis(endMinute) };
+	}
+
+	private static long millis(int minute) {
+		return MIDNIGHT + minute * 60_000L;
+	}
+}
@@ -0,0 +1,137 @@
+package com.app.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.app.client.ServiceClient;
+import com.app.dto.BookingDto;
+import com.app.dto.ServiceDto;
+import com.app.entity.Booking;
+import com.app.exception.BookingException;
+import com.app.repository.BookingRepo;
+import com.app.repository.StaffScheduleRepo;
+import com.app.service.BookingIntervalIndex;
+import com.app.service.BookingService;
+import com.app.service.StaffLocks;
+
+/**
+ * Fires 10k concurrent createBooking requests at a handful of staff members,
+ * with overlapping 30-minute requests on a 15-minute grid, and checks that no
+ * two active bookings of the same staff member overlap. Reports throughput for
+ * each lock stripe count. Not part of the regular build; run with
+ * {@code mvn test -Dtest=BookingConcurrencyBenchmark}.
+ */
+@SpringBootTest
+class BookingConcurrencyBenchmark {
+
+	private static final int REQUESTS = 10_000;
+	private static final int THREADS = 32;
+	private static final long[] STAFF_IDS = { 1L, 2L, 3L, 4L };
+	private static final int SLOTS_PER_STAFF = 400;
+	private static final int[] STRIPE_COUNTS = { 1, 4, 16, 64 };
+	private static final Instant OPENING = Instant.parse("2024-05-01T09:00:00Z");
+
+	@MockBean
+	private ServiceClient serviceClient;
+
+	@Autowired
+	private BookingService bookingService;
+
+	@Autowired
+	private BookingRepo bookingRepository;
+
+	@Autowired
+	private StaffScheduleRepo scheduleRepository;
+
+	@Autowired
+	private BookingIntervalIndex intervalIndex;
+
+	@Test
+	void concurrentCreatesNeverDoubleBook() throws Exception {
+		when(serviceClient.getServiceById(any())).thenReturn(new ServiceDto(1L, "Haircut", 100.0, 30));
+
+		for (int stripes : STRIPE_COUNTS) {
+			reset(stripes);
+			AtomicInteger created = new AtomicInteger();
+			AtomicInteger rejected = new AtomicInteger();
+
+			ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+			CountDownLatch start = new CountDownLatch(1);
+			for (int i = 0; i < REQUESTS; i++) {
+				pool.execute(() -> {
+					try {
+						start.await();
+						bookingService.createBooking(randomRequest());
+						created.incrementAndGet();
+					} catch (BookingException e) {
+						rejected.incrementAndGet();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				});
+			}
+			long begin = System.nanoTime();
+			start.countDown();
+			pool.shutdown();
+			assertTrue(pool.awaitTermination(5, TimeUnit.MINUTES), "stress run did not finish");
+			double seconds = (System.nanoTime() - begin) / 1e9;
+
+			System.out.printf("stripes=%3d  created=%5d  rejected=%5d  throughput=%8.0f req/s%n", stripes,
+					created.get(), rejected.get(), REQUESTS / seconds);
+			assertNoOverlaps();
+		}
+	}
+
+	private void reset(int stripes) {
+		bookingRepository.deleteAllInBatch();
+		scheduleRepository.deleteAllInBatch();
+		for (long staffId : STAFF_IDS) {
+			intervalIndex.invalidate(staffId);
+		}
+		Object target = AopProxyUtils.getSingletonTarget(bookingService);
+		ReflectionTestUtils.setField(target == null ? bookingService : target, "staffLocks", new StaffLocks(stripes));
+	}
+
+	private static BookingDto randomRequest() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		BookingDto dto = new BookingDto();
+		dto.setUserId(random.nextLong(1, 1000));
+		dto.setStaffId(STAFF_IDS[random.nextInt(STAFF_IDS.length)]);
+		dto.setServiceId(1L);
+		dto.setPrice(100.0);
+		dto.setStartTime(OPENING.plusSeconds(random.nextInt(SLOTS_PER_STAFF) * 15 * 60L));
+		return dto;
+	}
+
+	private void assertNoOverlaps() {
+		for (long staffId : STAFF_IDS) {
+			List<Booking> bookings = new ArrayList<>(bookingRepository.findByStaffId(staffId));
+			bookings.sort(Comparator.comparing(Booking::getStartTime));
+			for (int i = 1; i < bookings.size(); i++) {
+				Booking previous = bookings.get(i - 1);
+				Booking current = bookings.get(i);
+				assertTrue(!current.getStartTime().isBefore(previous.getEndTime()),
+						"double booking for staff " + staffId + ": " + previous.getId() + " and " + current.getId());
+			}
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.app.benchmark;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.app.BookingManagementMicroserviceApplication;
+import com.app.client.ServiceClient;
+import com.app.dto.BookingDto;
+import com.app.dto.ServiceDto;
+import com.app.service.BookingService;
+
+/**
+ * JMH createBooking latency (p50/p99 through sample time) for one staff member
+ * whose active booking history grows from 1k to 1M rows. The history runs back
+ * from the measured slots, a month ahead: upcoming bookings are PENDING and
+ * past ones COMPLETED. The calendar holds the upcoming ones and
+ * {@code booking.calendar.history} of past ones; the rest is only in the table,
+ * so latency should level off once the history reaches further back than that.
+ * Each trial boots the application on the in-memory test database. Run it with
+ * {@code mvn -Pbenchmark -DskipTests test -Djmh.args=BookingCreateLatencyBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingCreateLatencyBenchmark {
+
+	private static final long STAFF_ID = 1L;
+	private static final int SEED_BATCH = 10_000;
+	private static final long SLOT_SECONDS = 30 * 60L;
+	private static final ServiceDto SERVICE = new ServiceDto(1L, "Haircut", 100.0, 30);
+
+	@Param({ "1000", "10000", "100000", "1000000" })
+	private int historySize;
+
+	private ConfigurableApplicationContext context;
+
+	private BookingService bookingService;
+
+	private Instant newStart;
+
+	private long nextSlot;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(BookingManagementMicroserviceApplication.class)
+				.web(WebApplicationType.NONE).run();
+		bookingService = context.getBean(BookingService.class);
+		Object target = AopProxyUtils.getSingletonTarget(bookingService);
+		ServiceClient serviceClient = id -> SERVICE;
+		ReflectionTestUtils.setField(target == null ? bookingService : target, "serviceClient", serviceClient);
+
+		Instant now = Instant.now();
+		newStart = now.plus(30, ChronoUnit.DAYS).truncatedTo(ChronoUnit.HOURS);
+		seedHistory(context.getBean(JdbcTemplate.class), now);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public BookingDto createBooking() {
+		BookingDto dto = new BookingDto();
+		dto.setUserId(1L);
+		dto.setStaffId(STAFF_ID);
+		dto.setServiceId(1L);
+		dto.setPrice(100.0);
+		dto.setStartTime(newStart.plusSeconds(nextSlot++ * SLOT_SECONDS));
+		return bookingService.createBooking(dto);
+	}
+
+	// Seeded rows use their own id range so they never collide with the entity's generator
+	private void seedHistory(JdbcTemplate jdbcTemplate, Instant now) {
+		for (int seeded = 0; seeded < historySize; seeded += SEED_BATCH) {
+			int count = Math.min(SEED_BATCH, historySize - seeded);
+			List<Object[]> rows = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				int slot = seeded + i + 1;
+				Instant start = newStart.minusSeconds(slot * SLOT_SECONDS);
+				rows.add(new Object[] { 1_000_000_000L + slot, 1L, STAFF_ID, 1L, Timestamp.from(start),
+						Timestamp.from(start.plusSeconds(SLOT_SECONDS)), 100.0,
+						start.isBefore(now) ? "COMPLETED" : "PENDING" });
+			}
+			jdbcTemplate.batchUpdate("insert into booking (id, user_id, staff_id, service_id, start_time, end_time, "
+					+ "price, status) values (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.app.benchmark;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.app.dto.BookingDto;
+import com.app.entity.Booking;
+import com.app.entity.BookingStatus;
+import com.app.mapper.BookingMapper;
+import com.app.mapper.BookingMapperImpl;
+
+/**
+ * JMH comparison of the generated {@link BookingMapper} with ModelMapper for a
+ * single booking and a 10k-element list. Run it with
+ * {@code mvn -Pbenchmark -DskipTests test -Djmh.args=BookingMapperBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingMapperBenchmark {
+
+	private static final int LIST_SIZE = 10_000;
+
+	private final BookingMapper bookingMapper = new BookingMapperImpl();
+
+	private final ModelMapper modelMapper = new ModelMapper();
+
+	private Booking booking;
+
+	private List<Booking> bookings;
+
+	@Setup
+	public void setUp() {
+		bookings = new ArrayList<>(LIST_SIZE);
+		Instant opening = Instant.parse("2024-05-01T09:00:00Z");
+		for (int i = 0; i < LIST_SIZE; i++) {
+			Booking b = new Booking();
+			b.setId((long) i);
+			b.setUserId(i % 500L);
+			b.setStaffId(i % 20L);
+			b.setServiceId(i % 7L);
+			b.setStartTime(opening.plusSeconds(i * 1800L));
+			b.setEndTime(opening.plusSeconds(i * 1800L + 1800));
+			b.setPrice(100.0 + i % 50);
+			b.setStatus(BookingStatus.PENDING);
+			b.setUpdatedAt(opening);
+			bookings.add(b);
+		}
+		booking = bookings.get(0);
+	}
+
+	@Benchmark
+	public BookingDto generatedSingle() {
+		return bookingMapper.toDto(booking);
+	}
+
+	@Benchmark
+	public BookingDto modelMapperSingle() {
+		return modelMapper.map(booking, BookingDto.class);
+	}
+
+	@Benchmark
+	public List<BookingDto> generatedList() {
+		return bookingMapper.toDtos(bookings);
+	}
+
+	@Benchmark
+	public List<BookingDto> modelMapperList() {
+		return bookings.stream().map(b -> modelMapper.map(b, BookingDto.class)).collect(Collectors.toList());
+	}
+}
@@ -1,9 +1,7 @@
 package com.app;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Bean;
 
 import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
@@ -19,9 +17,4 @@ public class ServiceManagementMicroserviceApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(ServiceManagementMicroserviceApplication.class, args);
 	}
-
-	@Bean
-	public ModelMapper modelMapper() {
-		return new ModelMapper();
-	}
 }
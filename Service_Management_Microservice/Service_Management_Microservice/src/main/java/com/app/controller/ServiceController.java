@@ -1,8 +1,7 @@
 package com.app.controller;
 
-import java.util.List;
-
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -12,13 +11,20 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.app.dto.ServiceDto;
+import com.app.service.JsonSnapshotCache;
+import com.app.service.JsonSnapshotCache.Snapshot;
 import com.app.service.ServiceService;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -36,6 +42,9 @@ public class ServiceController {
     @Autowired
     private ServiceService serviceService;
 
+    @Autowired
+    private JsonSnapshotCache jsonCache;
+
     /**
      * Creates a new service.
      * 
@@ -51,16 +60,25 @@ public class ServiceController {
     }
 
     /**
-     * Retrieves a list of all services.
+     * Retrieves a list of all services. Supports conditional requests: a
+     * matching If-None-Match is answered with 304, without loading anything while
+     * the cached response is fresh.
      * 
-     * @return A ResponseEntity containing the list of ServiceDto and HTTP status 200 (OK).
+     * @param request        The current request, used for the ETag check.
+     * @param acceptEncoding The Accept-Encoding header; gzip is served when accepted.
+     * @return A ResponseEntity containing the serialized list of ServiceDto and HTTP status 200 (OK).
      */
     @Operation(summary = "Get All Services", description = "Get All Services API")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved list")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved list", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = ServiceDto.class))))
+    @ApiResponse(responseCode = "304", description = "List unchanged since the ETag in If-None-Match")
     @GetMapping
-    public ResponseEntity<List<ServiceDto>> getAllServices() {
-        List<ServiceDto> services = serviceService.getAllServices();
-        return ResponseEntity.ok(services);
+    public ResponseEntity<byte[]> getAllServices(WebRequest request,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Snapshot services = jsonCache.get("services", serviceService::getAllServices);
+        if (request.checkNotModified(services.etag())) {
+            return null;
+        }
+        return services.toResponse(acceptEncoding);
     }
 
     /**
@@ -11,7 +11,7 @@ import lombok.NoArgsConstructor;
 
 /**
  * The Service entity represents a service in the system. It includes attributes
- * like ID, name, detail, and price, which describe a particular service
+ * like ID, name, detail, price, and duration, which describe a particular service
  * offered.
  */
 @Data
@@ -45,4 +45,10 @@ public class Service {
 	@Column(nullable = false)
 	private Double price;
 
+	/**
+	 * How long the service takes, in minutes. Bookings use it to block the staff
+	 * member's calendar.
+	 */
+	private Integer durationMinutes;
+
 }
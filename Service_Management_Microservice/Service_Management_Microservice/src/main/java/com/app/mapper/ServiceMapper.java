@@ -0,0 +1,24 @@
+package com.app.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+import com.app.dto.ServiceDto;
+import com.app.entity.Service;
+
+/**
+ * Converts services between entity and DTO. MapStruct generates the
+ * implementation at build time as plain getter and setter calls, so mapping
+ * involves no reflection or type-map lookups at runtime.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface ServiceMapper {
+
+	ServiceDto toDto(Service service);
+
+	Service toEntity(ServiceDto serviceDto);
+
+	List<ServiceDto> toDtos(List<Service> services);
+}
@@ -0,0 +1,74 @@
+package com.app.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.app.dto.ServiceDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded, expiring read-through cache for the service catalog. Single
+ * services are cached by ID, and the full list is cached as one immutable
+ * snapshot. Writes invalidate both synchronously; an invalidation also
+ * discards a load that is still in flight for the same key, so a stale read
+ * cannot be cached after a write. Hit, miss and eviction counters are published
+ * as the {@code serviceById} and {@code serviceCatalog} cache metrics.
+ * {@link ServiceDto} is an immutable record, so every reader shares the cached
+ * instances.
+ */
+@Component
+public class ServiceCatalogCache implements MeterBinder {
+
+	private final Cache<Long, ServiceDto> byId;
+
+	private static final Boolean CATALOG_KEY = Boolean.TRUE;
+
+	// Single-entry cache holding the whole catalog
+	private final Cache<Boolean, List<ServiceDto>> catalog;
+
+	public ServiceCatalogCache(@Value("${catalog.cache.max-size:1000}") long maxSize,
+			@Value("${catalog.cache.ttl-seconds:600}") long ttlSeconds) {
+		Duration ttl = Duration.ofSeconds(ttlSeconds);
+		this.byId = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+		this.catalog = Caffeine.newBuilder().maximumSize(1).expireAfterWrite(ttl).recordStats().build();
+	}
+
+	/**
+	 * Returns the cached service, loading it on a miss. Exceptions thrown by the
+	 * loader propagate and nothing is cached.
+	 */
+	public ServiceDto get(Long serviceId, Function<Long, ServiceDto> loader) {
+		return byId.get(serviceId, loader);
+	}
+
+	/**
+	 * Returns the cached, unmodifiable catalog, loading it on a miss.
+	 */
+	public List<ServiceDto> getAll(Supplier<List<ServiceDto>> loader) {
+		return catalog.get(CATALOG_KEY, key -> List.copyOf(loader.get()));
+	}
+
+	/**
+	 * Drops a changed service and the catalog snapshot.
+	 */
+	public void invalidate(Long serviceId) {
+		byId.invalidate(serviceId);
+		catalog.invalidate(CATALOG_KEY);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, byId, "serviceById");
+		CaffeineCacheMetrics.monitor(registry, catalog, "serviceCatalog");
+	}
+}
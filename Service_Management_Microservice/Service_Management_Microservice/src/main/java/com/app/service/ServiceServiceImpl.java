@@ -1,13 +1,12 @@
 package com.app.service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.app.dto.ServiceDto;
+import com.app.mapper.ServiceMapper;
 import com.app.exception.ServiceException;
 import com.app.repository.ServiceRepository;
 
@@ -23,7 +22,13 @@ public class ServiceServiceImpl implements ServiceService {
 	private ServiceRepository serviceRepository;
 
 	@Autowired
-	private ModelMapper modelMapper;
+	private ServiceMapper serviceMapper;
+
+	@Autowired
+	private ServiceCatalogCache catalogCache;
+
+	@Autowired
+	private JsonSnapshotCache jsonCache;
 
 	/**
 	 * Creates a new service by converting the provided DTO to an entity, saving it,
@@ -36,11 +41,13 @@ public class ServiceServiceImpl implements ServiceService {
 	@Override
 	public ServiceDto createService(ServiceDto serviceDto) {
 		// Convert DTO to Entity
-		com.app.entity.Service serviceEntity = modelMapper.map(serviceDto, com.app.entity.Service.class);
+		com.app.entity.Service serviceEntity = serviceMapper.toEntity(serviceDto);
 		// Save the entity
 		com.app.entity.Service savedService = serviceRepository.save(serviceEntity);
+		catalogCache.invalidate(savedService.getId());
+		jsonCache.invalidate();
 		// Convert back to DTO
-		return modelMapper.map(savedService, ServiceDto.class);
+		return serviceMapper.toDto(savedService);
 	}
 
 	/**
@@ -60,15 +67,18 @@ public class ServiceServiceImpl implements ServiceService {
 				.orElseThrow(() -> new ServiceException("Service not found"));
 
 		// Update entity fields
-		existingService.setName(serviceDto.getName());
-		existingService.setDetail(serviceDto.getDetail());
-		existingService.setPrice(serviceDto.getPrice());
+		existingService.setName(serviceDto.name());
+		existingService.setDetail(serviceDto.detail());
+		existingService.setPrice(serviceDto.price());
+		existingService.setDurationMinutes(serviceDto.durationMinutes());
 
 		// Save updated entity
 		com.app.entity.Service updatedService = serviceRepository.save(existingService);
+		catalogCache.invalidate(serviceId);
+		jsonCache.invalidate();
 
 		// Convert back to DTO
-		return modelMapper.map(updatedService, ServiceDto.class);
+		return serviceMapper.toDto(updatedService);
 	}
 
 	/**
@@ -84,37 +94,39 @@ public class ServiceServiceImpl implements ServiceService {
 
 		// Delete entity
 		serviceRepository.delete(existingService);
+		catalogCache.invalidate(serviceId);
+		jsonCache.invalidate();
 		return "Deleted Successfully";
 	}
 
 	/**
-	 * Retrieves a service by its ID and converts it to a DTO.
+	 * Retrieves a service by its ID and converts it to a DTO. Served from the
+	 * catalog cache when possible.
 	 *
 	 * @param serviceId The ID of the service to be retrieved.
 	 * @return The ServiceDto of the retrieved service.
 	 */
 	@Override
 	public ServiceDto getServiceById(Long serviceId) {
-		// Find entity by ID
-		com.app.entity.Service service = serviceRepository.findById(serviceId)
-				.orElseThrow(() -> new ServiceException("Service not found" + serviceId));
-
-		// Convert to DTO
-		return modelMapper.map(service, ServiceDto.class);
+		return catalogCache.get(serviceId, id -> {
+			// Find entity by ID
+			com.app.entity.Service service = serviceRepository.findById(id)
+					.orElseThrow(() -> new ServiceException("Service not found" + id));
+
+			// Convert to DTO
+			return serviceMapper.toDto(service);
+		});
 	}
 
 	/**
 	 * Retrieves all services, converts them to DTOs, and returns the list of DTOs.
+	 * Served from the catalog cache as an unmodifiable copy.
 	 *
 	 * @return A list of ServiceDto representing all services.
 	 */
 	@Override
 	public List<ServiceDto> getAllServices() {
-		// Find all services
-		List<com.app.entity.Service> services = serviceRepository.findAll();
-
-		// Convert to DTO list
-		return services.stream().map(service -> modelMapper.map(service, ServiceDto.class))
-				.collect(Collectors.toList());
+		// Find all services and convert them to DTOs on a cache miss
+		return catalogCache.getAll(() -> serviceMapper.toDtos(serviceRepository.findAll()));
 	}
 }
@@ -0,0 +1,66 @@
+package com.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.app.dto.ServiceDto;
+import com.app.service.ServiceCatalogCache;
+
+class ServiceCatalogCacheTest {
+
+	private final ServiceCatalogCache catalogCache = new ServiceCatalogCache(100, 600);
+
+	@Test
+	void testInvalidateReloadsServiceAndCatalog() {
+		// Arrange
+		AtomicInteger serviceLoads = new AtomicInteger();
+		AtomicInteger catalogLoads = new AtomicInteger();
+		ServiceDto haircut = new ServiceDto(1L, "Haircut", "Basic", 100.0, 30);
+		Function<Long, ServiceDto> loadService = id -> {
+			serviceLoads.incrementAndGet();
+			return haircut;
+		};
+		Supplier<List<ServiceDto>> loadCatalog = () -> {
+			catalogLoads.incrementAndGet();
+			return new ArrayList<>(List.of(haircut));
+		};
+
+		// Act: two reads of each, a write, then one more read of each
+		catalogCache.get(1L, loadService);
+		catalogCache.get(1L, loadService);
+		catalogCache.getAll(loadCatalog);
+		catalogCache.getAll(loadCatalog);
+		catalogCache.invalidate(1L);
+		catalogCache.get(1L, loadService);
+		List<ServiceDto> snapshot = catalogCache.getAll(loadCatalog);
+
+		// Assert
+		assertEquals(2, serviceLoads.get());
+		assertEquals(2, catalogLoads.get());
+		assertThrows(UnsupportedOperationException.class, () -> snapshot.add(haircut));
+	}
+
+	@Test
+	void testReadersShareOneSnapshot() {
+		// Arrange
+		ServiceDto haircut = new ServiceDto(1L, "Haircut", "Basic", 100.0, 30);
+		List<ServiceDto> first = catalogCache.getAll(() -> new ArrayList<>(List.of(haircut)));
+
+		// Act
+		List<ServiceDto> second = catalogCache.getAll(() -> List.of());
+
+		// Assert: no copy per read
+		assertSame(first, second);
+		assertSame(haircut, catalogCache.get(1L, id -> haircut));
+		assertSame(haircut, catalogCache.get(1L, id -> null));
+	}
+}
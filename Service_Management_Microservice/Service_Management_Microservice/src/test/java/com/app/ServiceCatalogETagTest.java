@@ -0,0 +1,116 @@
+package com.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.app.controller.ServiceController;
+import com.app.dto.ServiceDto;
+import com.app.service.JsonSnapshotCache;
+import com.app.service.ServiceService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ServiceCatalogETagTest {
+
+	@Mock
+	private ServiceService serviceService;
+
+	@Spy
+	private JsonSnapshotCache jsonCache = new JsonSnapshotCache(256, 30);
+
+	@InjectMocks
+	private ServiceController serviceController;
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		ReflectionTestUtils.setField(jsonCache, "objectMapper", new ObjectMapper());
+		mockMvc = MockMvcBuilders.standaloneSetup(serviceController).build();
+	}
+
+	@Test
+	void testMatchingETagReturnsNotModifiedUntilWrite() throws Exception {
+		// Arrange
+		when(serviceService.getAllServices()).thenReturn(List.of(new ServiceDto(1L, "Haircut", "Basic", 100.0, 30)));
+		String etag = mockMvc.perform(get("/api/services")).andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].name").value("Haircut")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		// Act & Assert: revalidation is answered without loading, a write reloads
+		mockMvc.perform(get("/api/services").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+		verify(serviceService, times(1)).getAllServices();
+
+		when(serviceService.getAllServices()).thenReturn(List.of(new ServiceDto(1L, "Haircut", "Basic", 120.0, 30)));
+		jsonCache.invalidate();
+		mockMvc.perform(get("/api/services").header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isOk());
+		mockMvc.perform(get("/api/services").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+				.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+		verify(serviceService, times(2)).getAllServices();
+	}
+
+	@Test
+	void testGzipFollowsQualityValues() throws Exception {
+		// Arrange
+		when(serviceService.getAllServices()).thenReturn(List.of(new ServiceDto(1L, "Haircut", "Basic", 100.0, 30)));
+
+		// Act & Assert
+		mockMvc.perform(get("/api/services").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+		mockMvc.perform(get("/api/services").header(HttpHeaders.ACCEPT_ENCODING, "br, *;q=0.5"))
+				.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+		mockMvc.perform(get("/api/services").header(HttpHeaders.ACCEPT_ENCODING, "*;q=0.5, gzip;q=0"))
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+	}
+
+	@Test
+	void testETagDependsOnlyOnContent() throws Exception {
+		// Arrange: another node, or this one after a restart, with nothing cached
+		when(serviceService.getAllServices()).thenReturn(List.of(new ServiceDto(1L, "Haircut", "Basic", 100.0, 30)));
+		String etag = mockMvc.perform(get("/api/services")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		JsonSnapshotCache otherNode = new JsonSnapshotCache(256, 30);
+		ReflectionTestUtils.setField(otherNode, "objectMapper", new ObjectMapper());
+
+		// Act
+		String otherETag = otherNode.get("services", serviceService::getAllServices).etag();
+
+		// Assert
+		assertEquals(etag, otherETag);
+	}
+
+	@Test
+	void testExpiredSnapshotPicksUpWritesFromOtherNodes() throws Exception {
+		// Arrange: a zero TTL, so every read looks at the data again
+		JsonSnapshotCache expiring = new JsonSnapshotCache(256, 0);
+		ReflectionTestUtils.setField(expiring, "objectMapper", new ObjectMapper());
+		ReflectionTestUtils.setField(serviceController, "jsonCache", expiring);
+		when(serviceService.getAllServices()).thenReturn(List.of(new ServiceDto(1L, "Haircut", "Basic", 100.0, 30)));
+		String etag = mockMvc.perform(get("/api/services")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		// Act & Assert: unchanged data still revalidates, a write elsewhere is seen
+		mockMvc.perform(get("/api/services").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+		when(serviceService.getAllServices()).thenReturn(List.of(new ServiceDto(1L, "Haircut", "Basic", 120.0, 30)));
+		mockMvc.perform(get("/api/services").header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].price").value(120.0));
+	}
+}
@@ -28,11 +28,7 @@ class ServiceControllerTest {
 	@Test
 	void testCreateService() throws Exception {
 		// Arrange
-		ServiceDto serviceDto = new ServiceDto();
-		serviceDto.setId(1L);
-		serviceDto.setName("Haircut");
-		serviceDto.setDetail("A basic haircut");
-		serviceDto.setPrice(100.0);
+		ServiceDto serviceDto = new ServiceDto(1L, "Haircut", "A basic haircut", 100.0, null);
 
 		Mockito.when(serviceService.createService(any(ServiceDto.class))).thenReturn(serviceDto);
 
@@ -0,0 +1,82 @@
+package com.app.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.app.dto.ServiceDto;
+import com.app.entity.Service;
+import com.app.mapper.ServiceMapper;
+import com.app.mapper.ServiceMapperImpl;
+
+/**
+ * JMH comparison of the generated {@link ServiceMapper} with ModelMapper for a
+ * single service and a 10k-element list. Run it with
+ * {@code mvn -Pbenchmark -DskipTests test -Djmh.args=ServiceMapperBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceMapperBenchmark {
+
+	private static final int LIST_SIZE = 10_000;
+
+	private final ServiceMapper serviceMapper = new ServiceMapperImpl();
+
+	private final ModelMapper modelMapper = new ModelMapper();
+
+	private Service service;
+
+	private List<Service> services;
+
+	@Setup
+	public void setUp() {
+		services = new ArrayList<>(LIST_SIZE);
+		for (int i = 0; i < LIST_SIZE; i++) {
+			Service s = new Service();
+			s.setId((long) i);
+			s.setName("Service " + i);
+			s.setDetail("Details of service " + i);
+			s.setPrice(100.0 + i % 50);
+			s.setDurationMinutes(30 + i % 4 * 15);
+			services.add(s);
+		}
+		service = services.get(0);
+	}
+
+	@Benchmark
+	public ServiceDto generatedSingle() {
+		return serviceMapper.toDto(service);
+	}
+
+	@Benchmark
+	public ServiceDto modelMapperSingle() {
+		return modelMapper.map(service, ServiceDto.class);
+	}
+
+	@Benchmark
+	public List<ServiceDto> generatedList() {
+		return serviceMapper.toDtos(services);
+	}
+
+	@Benchmark
+	public List<ServiceDto> modelMapperList() {
+		return services.stream().map(s -> modelMapper.map(s, ServiceDto.class)).collect(Collectors.toList());
+	}
+}
@@ -1,16 +1,25 @@
 package com.app.controller;
 
 import com.app.dto.StaffDto;
+import com.app.entity.Gender;
+import com.app.service.JsonSnapshotCache;
+import com.app.service.JsonSnapshotCache.Snapshot;
 import com.app.service.StaffService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * StaffController is a REST controller that handles CRUD operations for staff
@@ -25,6 +34,9 @@ public class StaffController {
     @Autowired
     private StaffService staffService;
 
+    @Autowired
+    private JsonSnapshotCache jsonCache;
+
     /**
      * Creates a new staff member.
      * 
@@ -54,16 +66,36 @@ public class StaffController {
     }
 
     /**
-     * Retrieves a list of all staff members.
+     * Retrieves a list of staff members, optionally only those who can perform
+     * all of the given services and/or are of one gender. Supports conditional
+     * requests: a matching If-None-Match is answered with 304, without loading
+     * anything while the cached response is fresh.
      * 
-     * @return A ResponseEntity containing the list of StaffDto and HTTP status 200 (OK).
+     * @param serviceId      Only staff offering every one of these services, if given.
+     * @param gender         Only staff of this gender, if given.
+     * @param request        The current request, used for the ETag check.
+     * @param acceptEncoding The Accept-Encoding header; gzip is served when accepted.
+     * @return A ResponseEntity containing the serialized list of StaffDto and HTTP status 200 (OK).
      */
-    @Operation(summary = "Get all staff members", description = "Retrieve a list of all staff members")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved list")
+    @Operation(summary = "Get all staff members", description = "Retrieve a list of all staff members, optionally filtered by services (repeat serviceId to require several) and gender")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved list", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = StaffDto.class))))
+    @ApiResponse(responseCode = "304", description = "List unchanged since the ETag in If-None-Match")
     @GetMapping
-    public ResponseEntity<List<StaffDto>> getAllStaff() {
-        List<StaffDto> staffList = staffService.getAllStaff();
-        return new ResponseEntity<>(staffList, HttpStatus.OK);
+    public ResponseEntity<byte[]> getAllStaff(@RequestParam(required = false) Set<Long> serviceId,
+            @RequestParam(required = false) Gender gender, WebRequest request,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Snapshot staff;
+        if ((serviceId == null || serviceId.isEmpty()) && gender == null) {
+            staff = jsonCache.get("staff", staffService::getAllStaff);
+        } else {
+            Set<Long> serviceIds = serviceId == null ? Set.of() : new TreeSet<>(serviceId);
+            staff = jsonCache.get("staff?serviceId=" + serviceIds + "&gender=" + gender,
+                    () -> staffService.findStaff(serviceIds, gender));
+        }
+        if (request.checkNotModified(staff.etag())) {
+            return null;
+        }
+        return staff.toResponse(acceptEncoding);
     }
 
     /**
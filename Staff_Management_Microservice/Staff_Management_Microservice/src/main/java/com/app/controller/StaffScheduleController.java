@@ -0,0 +1,143 @@
+package com.app.controller;
+
+import com.app.dto.ShiftExceptionDto;
+import com.app.dto.StaffCapacityDto;
+import com.app.dto.WorkingHoursDto;
+import com.app.service.JsonSnapshotCache;
+import com.app.service.JsonSnapshotCache.Snapshot;
+import com.app.service.StaffScheduleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * StaffScheduleController is a REST controller for when staff members work. It
+ * provides endpoints for managing weekly working hours and shift exceptions,
+ * and a bulk endpoint serving the precomputed capacity bitmaps.
+ */
+@RestController
+@RequestMapping("/api/staff")
+@Tag(name = "Staff Schedules", description = "APIs for managing staff working hours and capacity")
+public class StaffScheduleController {
+
+    @Autowired
+    private StaffScheduleService scheduleService;
+
+    @Autowired
+    private JsonSnapshotCache jsonCache;
+
+    /**
+     * Retrieves the weekly working hours of a staff member.
+     * 
+     * @param id The ID of the staff member.
+     * @return A ResponseEntity containing the list of WorkingHoursDto and HTTP status 200 (OK).
+     */
+    @Operation(summary = "Get working hours", description = "Retrieve the weekly working hours of a staff member")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved working hours")
+    @GetMapping("/{id}/working-hours")
+    public ResponseEntity<List<WorkingHoursDto>> getWorkingHours(@PathVariable("id") Long id) {
+        return new ResponseEntity<>(scheduleService.getWorkingHours(id), HttpStatus.OK);
+    }
+
+    /**
+     * Replaces the weekly working hours of a staff member.
+     * 
+     * @param id           The ID of the staff member.
+     * @param workingHours The new shifts.
+     * @return A ResponseEntity containing the saved list of WorkingHoursDto and HTTP status 200 (OK).
+     */
+    @Operation(summary = "Replace working hours", description = "Replace the weekly working hours of a staff member")
+    @ApiResponse(responseCode = "200", description = "Working hours replaced")
+    @PutMapping("/{id}/working-hours")
+    public ResponseEntity<List<WorkingHoursDto>> replaceWorkingHours(@PathVariable("id") Long id,
+            @RequestBody List<WorkingHoursDto> workingHours) {
+        return new ResponseEntity<>(scheduleService.replaceWorkingHours(id, workingHours), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the shift exceptions of a staff member in a date range.
+     * 
+     * @param id   The ID of the staff member.
+     * @param from The first date, inclusive.
+     * @param to   The last date, inclusive.
+     * @return A ResponseEntity containing the list of ShiftExceptionDto and HTTP status 200 (OK).
+     */
+    @Operation(summary = "Get shift exceptions", description = "Retrieve the shift exceptions of a staff member between two dates")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved shift exceptions")
+    @GetMapping("/{id}/shift-exceptions")
+    public ResponseEntity<List<ShiftExceptionDto>> getShiftExceptions(@PathVariable("id") Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return new ResponseEntity<>(scheduleService.getShiftExceptions(id, from, to), HttpStatus.OK);
+    }
+
+    /**
+     * Adds a shift exception for a staff member.
+     * 
+     * @param id                The ID of the staff member.
+     * @param shiftExceptionDto The exception to add.
+     * @return A ResponseEntity containing the created ShiftExceptionDto and HTTP status 201 (Created).
+     */
+    @Operation(summary = "Add a shift exception", description = "Add a day off, time off or an extra shift for a staff member")
+    @ApiResponse(responseCode = "201", description = "Shift exception created")
+    @PostMapping("/{id}/shift-exceptions")
+    public ResponseEntity<ShiftExceptionDto> addShiftException(@PathVariable("id") Long id,
+            @RequestBody ShiftExceptionDto shiftExceptionDto) {
+        return new ResponseEntity<>(scheduleService.addShiftException(id, shiftExceptionDto), HttpStatus.CREATED);
+    }
+
+    /**
+     * Deletes a shift exception of a staff member.
+     * 
+     * @param id          The ID of the staff member.
+     * @param exceptionId The ID of the exception.
+     * @return A ResponseEntity with HTTP status 204 (No Content).
+     */
+    @Operation(summary = "Delete a shift exception", description = "Remove a shift exception of a staff member")
+    @ApiResponse(responseCode = "204", description = "Shift exception deleted")
+    @DeleteMapping("/{id}/shift-exceptions/{exceptionId}")
+    public ResponseEntity<Void> deleteShiftException(@PathVariable("id") Long id,
+            @PathVariable("exceptionId") Long exceptionId) {
+        scheduleService.deleteShiftException(id, exceptionId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    /**
+     * Retrieves the precomputed capacity bitmaps of many staff members in one
+     * call. Responses carry an ETag derived from their content, so callers can
+     * cache them and revalidate cheaply.
+     * 
+     * @param staffId        The IDs of the staff members; all staff if omitted.
+     * @param request        The current request, used for the ETag check.
+     * @param acceptEncoding The Accept-Encoding header; gzip is served when accepted.
+     * @return A ResponseEntity containing the serialized list of StaffCapacityDto and HTTP status 200 (OK).
+     */
+    @Operation(summary = "Get staff capacity", description = "Retrieve working-time bitmaps (one bit per 5-minute slot) for a rolling window of days, for the given staff (repeat staffId) or all staff")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved capacity", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = StaffCapacityDto.class))))
+    @ApiResponse(responseCode = "304", description = "Capacity unchanged since the ETag in If-None-Match")
+    @GetMapping("/capacity")
+    public ResponseEntity<byte[]> getCapacity(@RequestParam(required = false) Set<Long> staffId, WebRequest request,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        Set<Long> staffIds = staffId == null ? Set.of() : new TreeSet<>(staffId);
+        Snapshot capacity = jsonCache.get("capacity?staffId=" + staffIds, () -> scheduleService.getCapacity(staffIds));
+        if (request.checkNotModified(capacity.etag())) {
+            return null;
+        }
+        return capacity.toResponse(acceptEncoding);
+    }
+}
@@ -0,0 +1,57 @@
+package com.app.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.app.entity.ShiftExceptionType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * ShiftExceptionDto represents a one-off change to a staff member's working
+ * hours on a given date.
+ */
+@Data
+@Schema(description = "ShiftExceptionDto model information")
+public class ShiftExceptionDto {
+
+	/**
+	 * Unique identifier for the exception. Example: 1
+	 */
+	@Schema(description = "Unique identifier for the exception", example = "1")
+	private Long id;
+
+	/**
+	 * ID of the staff member the exception applies to. Taken from the request
+	 * path.
+	 */
+	@Schema(description = "ID of the staff member the exception applies to", example = "1", accessMode = Schema.AccessMode.READ_ONLY)
+	private Long staffId;
+
+	/**
+	 * Date the exception applies to. Example: 2024-12-24
+	 */
+	@Schema(description = "Date the exception applies to", example = "2024-12-24")
+	private LocalDate date;
+
+	/**
+	 * Local start time, on the 5-minute grid. Omit together with endTime for the
+	 * whole day. Example: 14:00
+	 */
+	@Schema(description = "Local start time, on the 5-minute grid; omit with endTime for the whole day", example = "14:00", type = "string")
+	private LocalTime startTime;
+
+	/**
+	 * Local end time, exclusive, on the 5-minute grid. Example: 18:00
+	 */
+	@Schema(description = "Local end time, exclusive, on the 5-minute grid; 00:00 means end of day", example = "18:00", type = "string")
+	private LocalTime endTime;
+
+	/**
+	 * Whether the staff member works or is away during this time. Example:
+	 * UNAVAILABLE
+	 */
+	@Schema(description = "Whether the staff member works or is away during this time", example = "UNAVAILABLE")
+	private ShiftExceptionType type;
+}
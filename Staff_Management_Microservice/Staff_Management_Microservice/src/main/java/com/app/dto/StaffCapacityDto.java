@@ -0,0 +1,52 @@
+package com.app.dto;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * StaffCapacityDto carries the precomputed working time of one staff member
+ * over a window of days as a bitmap with one bit per 5-minute slot.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "StaffCapacityDto model information")
+public class StaffCapacityDto {
+
+	/**
+	 * ID of the staff member. Example: 1
+	 */
+	@Schema(description = "ID of the staff member", example = "1")
+	private Long staffId;
+
+	/**
+	 * First day of the window, in the staff service's zone. Example: 2024-05-01
+	 */
+	@Schema(description = "First day of the window", example = "2024-05-01")
+	private LocalDate from;
+
+	/**
+	 * Number of days in the window. Example: 60
+	 */
+	@Schema(description = "Number of days in the window", example = "60")
+	private int days;
+
+	/**
+	 * Length of one slot in minutes. Example: 5
+	 */
+	@Schema(description = "Length of one slot in minutes", example = "5")
+	private int slotMinutes;
+
+	/**
+	 * Working slots as a little-endian bitmap: bit {@code day * slotsPerDay + slot}
+	 * is set if the staff member works that slot, where slot 0 starts at local
+	 * midnight. Readable with {@code java.util.BitSet.valueOf(bytes)}; trailing
+	 * zero bytes are omitted.
+	 */
+	@Schema(description = "Base64 little-endian bitmap; bit day*slotsPerDay+slot is set if the slot is worked", type = "string", format = "byte")
+	private byte[] slots;
+}
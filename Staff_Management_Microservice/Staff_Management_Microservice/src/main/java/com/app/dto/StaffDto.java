@@ -1,5 +1,7 @@
 package com.app.dto;
 
+import java.util.Set;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 import com.app.entity.Gender;
@@ -42,4 +44,12 @@ public class StaffDto {
 	 */
 	@Schema(description = "ID of the service associated with the staff member")
 	private Long serviceId;
+
+	/**
+	 * IDs of every service the staff member can perform. The primary service is
+	 * always included. Left out of an update, the skills stay as they are.
+	 * Example: [1, 4]
+	 */
+	@Schema(description = "IDs of every service the staff member can perform; omit on update to keep them", example = "[1, 4]")
+	private Set<Long> skills;
 }
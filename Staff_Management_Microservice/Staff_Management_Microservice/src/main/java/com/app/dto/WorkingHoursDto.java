@@ -0,0 +1,45 @@
+package com.app.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * WorkingHoursDto represents one recurring weekly shift of a staff member.
+ */
+@Data
+@Schema(description = "WorkingHoursDto model information")
+public class WorkingHoursDto {
+
+	/**
+	 * Unique identifier for the shift. Example: 1
+	 */
+	@Schema(description = "Unique identifier for the shift", example = "1")
+	private Long id;
+
+	/**
+	 * ID of the staff member working this shift. Taken from the request path.
+	 */
+	@Schema(description = "ID of the staff member working this shift", example = "1", accessMode = Schema.AccessMode.READ_ONLY)
+	private Long staffId;
+
+	/**
+	 * Day of the week the shift recurs on. Example: MONDAY
+	 */
+	@Schema(description = "Day of the week the shift recurs on", example = "MONDAY")
+	private DayOfWeek dayOfWeek;
+
+	/**
+	 * Local start time, on the 5-minute grid. Example: 09:00
+	 */
+	@Schema(description = "Local start time, on the 5-minute grid", example = "09:00", type = "string")
+	private LocalTime startTime;
+
+	/**
+	 * Local end time, exclusive, on the 5-minute grid. Example: 17:30
+	 */
+	@Schema(description = "Local end time, exclusive, on the 5-minute grid; 00:00 means end of day", example = "17:30", type = "string")
+	private LocalTime endTime;
+}
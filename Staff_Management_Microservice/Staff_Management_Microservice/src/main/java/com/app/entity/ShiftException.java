@@ -0,0 +1,65 @@
+package com.app.entity;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A one-off change to a staff member's working hours on a given date, such as
+ * a day off, a doctor's appointment or an extra evening shift.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = { @Index(name = "idx_shift_exception_staff_date", columnList = "staffId, date"),
+		@Index(name = "idx_shift_exception_date", columnList = "date") })
+public class ShiftException {
+
+	/**
+	 * Unique identifier for the exception. This field is auto-generated by the
+	 * database.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	/**
+	 * ID of the staff member the exception applies to.
+	 */
+	private Long staffId;
+
+	/**
+	 * Date the exception applies to.
+	 */
+	private LocalDate date;
+
+	/**
+	 * Local start time, inclusive. Null together with {@link #endTime} means the
+	 * whole day.
+	 */
+	private LocalTime startTime;
+
+	/**
+	 * Local end time, exclusive. Midnight means the end of the day.
+	 */
+	private LocalTime endTime;
+
+	/**
+	 * Whether the staff member works or is away during this time. Stored as a
+	 * string in the database.
+	 */
+	@Enumerated(EnumType.STRING)
+	private ShiftExceptionType type;
+}
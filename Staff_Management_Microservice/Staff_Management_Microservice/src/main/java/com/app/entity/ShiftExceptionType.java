@@ -0,0 +1,8 @@
+package com.app.entity;
+
+/**
+ * Whether a shift exception adds working time or takes it away.
+ */
+public enum ShiftExceptionType {
+	AVAILABLE, UNAVAILABLE
+}
@@ -1,11 +1,23 @@
 package com.app.entity;
 
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -43,6 +55,16 @@ public class Staff {
 	 */
 	private Long serviceId;
 
+	/**
+	 * IDs of every service the staff member can perform, including
+	 * {@link #serviceId}. Loaded with one subselect for all staff of a query.
+	 */
+	@ElementCollection(fetch = FetchType.EAGER)
+	@Fetch(FetchMode.SUBSELECT)
+	@CollectionTable(name = "staff_skill", joinColumns = @JoinColumn(name = "staff_id"), indexes = @Index(name = "idx_staff_skill_service", columnList = "service_id, staff_id"))
+	@Column(name = "service_id")
+	private Set<Long> skills = new HashSet<>();
+
 	/**
 	 * Gender of the staff member. This field is stored as a string in the database.
 	 */
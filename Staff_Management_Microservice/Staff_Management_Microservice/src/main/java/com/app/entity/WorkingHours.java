@@ -0,0 +1,57 @@
+package com.app.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One recurring weekly shift of a staff member, e.g. Mondays 09:00-13:00. A
+ * staff member may have several shifts on the same day.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = @Index(name = "idx_working_hours_staff", columnList = "staffId"))
+public class WorkingHours {
+
+	/**
+	 * Unique identifier for the shift. This field is auto-generated by the
+	 * database.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	/**
+	 * ID of the staff member working this shift.
+	 */
+	private Long staffId;
+
+	/**
+	 * Day of the week the shift recurs on. Stored as a string in the database.
+	 */
+	@Enumerated(EnumType.STRING)
+	private DayOfWeek dayOfWeek;
+
+	/**
+	 * Local start time of the shift, inclusive.
+	 */
+	private LocalTime startTime;
+
+	/**
+	 * Local end time of the shift, exclusive. Midnight means the end of the day.
+	 */
+	private LocalTime endTime;
+}
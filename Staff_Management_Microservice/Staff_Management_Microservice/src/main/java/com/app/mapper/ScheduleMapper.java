@@ -0,0 +1,30 @@
+package com.app.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+import com.app.dto.ShiftExceptionDto;
+import com.app.dto.WorkingHoursDto;
+import com.app.entity.ShiftException;
+import com.app.entity.WorkingHours;
+
+/**
+ * Converts working hours and shift exceptions between entity and DTO.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface ScheduleMapper {
+
+	WorkingHoursDto toDto(WorkingHours workingHours);
+
+	WorkingHours toEntity(WorkingHoursDto workingHoursDto);
+
+	List<WorkingHoursDto> toWorkingHoursDtos(List<WorkingHours> workingHours);
+
+	ShiftExceptionDto toDto(ShiftException shiftException);
+
+	ShiftException toEntity(ShiftExceptionDto shiftExceptionDto);
+
+	List<ShiftExceptionDto> toShiftExceptionDtos(List<ShiftException> shiftExceptions);
+}
@@ -0,0 +1,35 @@
+package com.app.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+import com.app.dto.StaffDto;
+import com.app.entity.Staff;
+
+/**
+ * Converts staff members between entity and DTO. MapStruct generates the
+ * implementation at build time as plain getter and setter calls, so mapping
+ * involves no reflection or type-map lookups at runtime.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface StaffMapper {
+
+	StaffDto toDto(Staff staff);
+
+	Staff toEntity(StaffDto staffDto);
+
+	List<StaffDto> toDtos(List<Staff> staff);
+
+	/**
+	 * Copies the DTO onto an existing staff member, keeping its ID. Null skills
+	 * leave the current skills unchanged.
+	 */
+	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "skills", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+	void update(StaffDto staffDto, @MappingTarget Staff staff);
+}
@@ -0,0 +1,23 @@
+package com.app.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.app.entity.ShiftException;
+
+/**
+ * Repository interface for {@link ShiftException} entities.
+ */
+@Repository
+public interface ShiftExceptionRepository extends JpaRepository<ShiftException, Long> {
+
+    List<ShiftException> findByStaffIdAndDateBetweenOrderByDateAscStartTimeAsc(Long staffId, LocalDate from,
+            LocalDate to);
+
+    List<ShiftException> findByDateBetween(LocalDate from, LocalDate to);
+
+    void deleteByStaffId(Long staffId);
+}
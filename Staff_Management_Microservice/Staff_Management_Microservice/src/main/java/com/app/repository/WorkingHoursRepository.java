@@ -0,0 +1,19 @@
+package com.app.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.app.entity.WorkingHours;
+
+/**
+ * Repository interface for {@link WorkingHours} entities.
+ */
+@Repository
+public interface WorkingHoursRepository extends JpaRepository<WorkingHours, Long> {
+
+    List<WorkingHours> findByStaffId(Long staffId);
+
+    void deleteByStaffId(Long staffId);
+}
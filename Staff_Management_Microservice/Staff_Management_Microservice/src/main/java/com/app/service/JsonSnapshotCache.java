@@ -0,0 +1,153 @@
+package com.app.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Pre-serialized, gzip-compressed read responses, so a hot read only copies
+ * cached bytes. The ETag is a hash of the JSON, so every node and every restart
+ * hands out the same tag for the same content. Writes on this node bump a
+ * version that makes every snapshot stale at once; writes on other nodes are
+ * picked up when a snapshot expires, after the configured TTL at the latest.
+ * <p>
+ * The service, staff and user modules each carry an identical copy of this
+ * class, since they are built and deployed on their own with no shared parent;
+ * a change here belongs in all three.
+ */
+@Component
+public class JsonSnapshotCache {
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private final AtomicLong version = new AtomicLong();
+
+	// Keys are endpoint plus query
+	private final Cache<String, Snapshot> snapshots;
+
+	public JsonSnapshotCache(@Value("${json.cache.max-size:256}") long maxSize,
+			@Value("${json.cache.ttl-seconds:30}") long ttlSeconds) {
+		this.snapshots = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.build();
+	}
+
+	/**
+	 * Marks every snapshot as stale. Call after each committed write.
+	 */
+	public void invalidate() {
+		version.incrementAndGet();
+	}
+
+	/**
+	 * Returns the snapshot of a response, serializing the loader's result if there
+	 * is no cached one, it has expired, or it is from an older version.
+	 *
+	 * @param key    Identifies the response, e.g. the endpoint and its query.
+	 * @param loader Produces the response body.
+	 */
+	public Snapshot get(String key, Supplier<?> loader) {
+		// Read the version first: the loaded data is at least as new as it
+		long current = version.get();
+		Snapshot cached = snapshots.getIfPresent(key);
+		if (cached != null && cached.version() == current) {
+			return cached;
+		}
+		Snapshot loaded = serialize(current, loader.get());
+		snapshots.put(key, loaded);
+		return loaded;
+	}
+
+	private Snapshot serialize(long version, Object body) {
+		try {
+			byte[] json = objectMapper.writeValueAsBytes(body);
+			ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+			try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+				gzip.write(json);
+			}
+			return new Snapshot(version, etagOf(json), json, compressed.toByteArray());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static String etagOf(byte[] json) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+			return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Whether an Accept-Encoding header allows gzip: listed, or covered by "*",
+	 * with a non-zero q-value.
+	 */
+	private static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		Double gzip = null;
+		Double wildcard = null;
+		for (String coding : acceptEncoding.split(",")) {
+			String[] parts = coding.split(";");
+			String name = parts[0].trim();
+			double q = 1.0;
+			for (int i = 1; i < parts.length; i++) {
+				String param = parts[i].trim();
+				if (param.regionMatches(true, 0, "q=", 0, 2)) {
+					try {
+						q = Double.parseDouble(param.substring(2).trim());
+					} catch (NumberFormatException e) {
+						q = 0.0;
+					}
+				}
+			}
+			if (name.equalsIgnoreCase("gzip")) {
+				gzip = q;
+			} else if (name.equals("*")) {
+				wildcard = q;
+			}
+		}
+		Double q = gzip != null ? gzip : wildcard;
+		return q != null && q > 0.0;
+	}
+
+	/**
+	 * One serialized response in plain and gzip form.
+	 */
+	public record Snapshot(long version, String etag, byte[] json, byte[] gzip) {
+
+		/**
+		 * Builds a 200 response, gzip-encoded if the client accepts it.
+		 */
+		public ResponseEntity<byte[]> toResponse(String acceptEncoding) {
+			ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag)
+					.contentType(MediaType.APPLICATION_JSON).header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			if (acceptsGzip(acceptEncoding)) {
+				return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzip);
+			}
+			return response.body(json);
+		}
+	}
+}
@@ -0,0 +1,199 @@
+package com.app.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.app.dto.StaffCapacityDto;
+import com.app.entity.ShiftException;
+import com.app.entity.ShiftExceptionType;
+import com.app.entity.WorkingHours;
+import com.app.repository.ShiftExceptionRepository;
+import com.app.repository.WorkingHoursRepository;
+
+/**
+ * Precomputed working time of every staff member for a rolling window of days,
+ * one bit per 5-minute slot. The whole window is rebuilt with two queries at
+ * midnight, on first use, and after a refresh interval so changes made on other
+ * nodes are picked up. A single staff member's bitmap is recomputed whenever
+ * their working hours or shift exceptions change on this node, so reads only
+ * touch the database when the window is rebuilt. Bitmaps are kept in their serialized form and shared by
+ * every response.
+ */
+@Component
+public class StaffCapacity {
+
+	public static final int SLOT_MINUTES = 5;
+	public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+
+	private static final int SLOT_SECONDS = SLOT_MINUTES * 60;
+	private static final byte[] NO_SLOTS = new byte[0];
+
+	@Autowired
+	private WorkingHoursRepository workingHoursRepository;
+
+	@Autowired
+	private ShiftExceptionRepository shiftExceptionRepository;
+
+	@Autowired
+	private JsonSnapshotCache jsonCache;
+
+	@Value("${staff.capacity.window-days:60}")
+	private int windowDays;
+
+	@Value("${staff.capacity.refresh-seconds:300}")
+	private long refreshSeconds;
+
+	@Value("${staff.zone-id:#{T(java.time.ZoneId).systemDefault()}}")
+	private ZoneId zoneId;
+
+	private volatile Window window;
+
+	/**
+	 * Returns the capacity of the given staff members for the current window.
+	 * Staff members without any working hours get an empty bitmap.
+	 */
+	public List<StaffCapacityDto> get(Collection<Long> staffIds) {
+		Window current = current();
+		List<StaffCapacityDto> result = new ArrayList<>(staffIds.size());
+		for (Long staffId : staffIds) {
+			result.add(new StaffCapacityDto(staffId, current.from(), windowDays, SLOT_MINUTES,
+					current.slots().getOrDefault(staffId, NO_SLOTS)));
+		}
+		return result;
+	}
+
+	/**
+	 * Recomputes one staff member's bitmap. Call after their working hours or
+	 * shift exceptions changed and the change is committed.
+	 */
+	public synchronized void refresh(Long staffId) {
+		Window current = window;
+		if (current == null) {
+			return;
+		}
+		byte[] slots = compute(current.from(), workingHoursRepository.findByStaffId(staffId),
+				shiftExceptionRepository.findByStaffIdAndDateBetweenOrderByDateAscStartTimeAsc(staffId, current.from(),
+						current.from().plusDays(windowDays - 1)));
+		if (slots.length == 0) {
+			current.slots().remove(staffId);
+		} else {
+			current.slots().put(staffId, slots);
+		}
+	}
+
+	/**
+	 * Rebuilds every bitmap for the window starting today. Runs shortly after
+	 * midnight so the window keeps rolling forward.
+	 */
+	@Scheduled(cron = "${staff.capacity.rebuild-cron:0 0 0 * * *}", zone = "${staff.zone-id:}")
+	public synchronized void rebuild() {
+		LocalDate from = LocalDate.now(zoneId);
+		Map<Long, List<WorkingHours>> hours = workingHoursRepository.findAll().stream()
+				.collect(Collectors.groupingBy(WorkingHours::getStaffId));
+		Map<Long, List<ShiftException>> exceptions = shiftExceptionRepository
+				.findByDateBetween(from, from.plusDays(windowDays - 1)).stream()
+				.collect(Collectors.groupingBy(ShiftException::getStaffId));
+
+		Set<Long> staffIds = new HashSet<>(hours.keySet());
+		staffIds.addAll(exceptions.keySet());
+		Map<Long, byte[]> slots = new ConcurrentHashMap<>(Math.max(16, staffIds.size() * 2));
+		for (Long staffId : staffIds) {
+			byte[] computed = compute(from, hours.getOrDefault(staffId, List.of()),
+					exceptions.getOrDefault(staffId, List.of()));
+			if (computed.length > 0) {
+				slots.put(staffId, computed);
+			}
+		}
+		window = new Window(from, slots, System.currentTimeMillis());
+		jsonCache.invalidate();
+	}
+
+	/**
+	 * Index of the slot a time falls on. An end time of midnight means the end
+	 * of the day.
+	 */
+	public static int slotOf(LocalTime time, boolean end) {
+		return end && time.equals(LocalTime.MIDNIGHT) ? SLOTS_PER_DAY : time.toSecondOfDay() / SLOT_SECONDS;
+	}
+
+	/**
+	 * Whether a time lies on the 5-minute slot grid.
+	 */
+	public static boolean isOnGrid(LocalTime time) {
+		return time.getNano() == 0 && time.toSecondOfDay() % SLOT_SECONDS == 0;
+	}
+
+	private Window current() {
+		Window current = window;
+		if (isOutdated(current)) {
+			synchronized (this) {
+				current = window;
+				if (isOutdated(current)) {
+					rebuild();
+					current = window;
+				}
+			}
+		}
+		return current;
+	}
+
+	private boolean isOutdated(Window current) {
+		return current == null || !current.from().equals(LocalDate.now(zoneId))
+				|| System.currentTimeMillis() - current.loadedAt() > refreshSeconds * 1000;
+	}
+
+	private byte[] compute(LocalDate from, List<WorkingHours> hours, List<ShiftException> exceptions) {
+		BitSet bits = new BitSet(windowDays * SLOTS_PER_DAY);
+		Map<DayOfWeek, List<WorkingHours>> weekly = new HashMap<>();
+		for (WorkingHours shift : hours) {
+			weekly.computeIfAbsent(shift.getDayOfWeek(), d -> new ArrayList<>()).add(shift);
+		}
+		for (int day = 0; day < windowDays; day++) {
+			int base = day * SLOTS_PER_DAY;
+			for (WorkingHours shift : weekly.getOrDefault(from.plusDays(day).getDayOfWeek(), List.of())) {
+				bits.set(base + slotOf(shift.getStartTime(), false), base + slotOf(shift.getEndTime(), true));
+			}
+		}
+
+		// Extra shifts first, then time off, so time off always wins
+		List<ShiftException> ordered = new ArrayList<>(exceptions);
+		ordered.sort(Comparator.comparing(ShiftException::getType));
+		for (ShiftException exception : ordered) {
+			long day = ChronoUnit.DAYS.between(from, exception.getDate());
+			if (day < 0 || day >= windowDays) {
+				continue;
+			}
+			int base = (int) day * SLOTS_PER_DAY;
+			int start = exception.getStartTime() == null ? 0 : slotOf(exception.getStartTime(), false);
+			int end = exception.getEndTime() == null ? SLOTS_PER_DAY : slotOf(exception.getEndTime(), true);
+			if (exception.getType() == ShiftExceptionType.AVAILABLE) {
+				bits.set(base + start, base + end);
+			} else {
+				bits.clear(base + start, base + end);
+			}
+		}
+		return bits.toByteArray();
+	}
+
+	private record Window(LocalDate from, Map<Long, byte[]> slots, long loadedAt) {
+	}
+}
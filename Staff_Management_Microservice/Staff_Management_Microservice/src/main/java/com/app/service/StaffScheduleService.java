@@ -0,0 +1,77 @@
+package com.app.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import com.app.dto.ShiftExceptionDto;
+import com.app.dto.StaffCapacityDto;
+import com.app.dto.WorkingHoursDto;
+
+/**
+ * Service interface for managing when staff members work: their recurring
+ * weekly working hours, one-off shift exceptions and the capacity derived from
+ * both.
+ */
+public interface StaffScheduleService {
+
+	/**
+	 * Retrieves the weekly working hours of a staff member.
+	 * 
+	 * @param staffId The ID of the staff member.
+	 * @return Their shifts ordered by day and start time.
+	 */
+	List<WorkingHoursDto> getWorkingHours(Long staffId);
+
+	/**
+	 * Replaces the weekly working hours of a staff member.
+	 * 
+	 * @param staffId      The ID of the staff member.
+	 * @param workingHours The new shifts; an empty list means they no longer work
+	 *                     regular hours.
+	 * @return The saved shifts ordered by day and start time.
+	 */
+	List<WorkingHoursDto> replaceWorkingHours(Long staffId, List<WorkingHoursDto> workingHours);
+
+	/**
+	 * Retrieves the shift exceptions of a staff member in a date range.
+	 * 
+	 * @param staffId The ID of the staff member.
+	 * @param from    The first date, inclusive.
+	 * @param to      The last date, inclusive.
+	 * @return The exceptions ordered by date and start time.
+	 */
+	List<ShiftExceptionDto> getShiftExceptions(Long staffId, LocalDate from, LocalDate to);
+
+	/**
+	 * Adds a shift exception for a staff member.
+	 * 
+	 * @param staffId           The ID of the staff member.
+	 * @param shiftExceptionDto The exception to add.
+	 * @return The saved exception.
+	 */
+	ShiftExceptionDto addShiftException(Long staffId, ShiftExceptionDto shiftExceptionDto);
+
+	/**
+	 * Deletes a shift exception of a staff member.
+	 * 
+	 * @param staffId     The ID of the staff member.
+	 * @param exceptionId The ID of the exception.
+	 */
+	void deleteShiftException(Long staffId, Long exceptionId);
+
+	/**
+	 * Deletes all working hours and shift exceptions of a staff member.
+	 * 
+	 * @param staffId The ID of the staff member.
+	 */
+	void deleteSchedule(Long staffId);
+
+	/**
+	 * Retrieves the precomputed capacity of staff members for the current window.
+	 * 
+	 * @param staffIds The IDs of the staff members, or empty for all of them.
+	 * @return One capacity bitmap per staff member.
+	 */
+	List<StaffCapacityDto> getCapacity(Collection<Long> staffIds);
+}
@@ -0,0 +1,211 @@
+package com.app.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.app.dto.ShiftExceptionDto;
+import com.app.dto.StaffCapacityDto;
+import com.app.dto.StaffDto;
+import com.app.dto.WorkingHoursDto;
+import com.app.entity.ShiftException;
+import com.app.entity.WorkingHours;
+import com.app.exception.StaffException;
+import com.app.mapper.ScheduleMapper;
+import com.app.repository.ShiftExceptionRepository;
+import com.app.repository.StaffRepository;
+import com.app.repository.WorkingHoursRepository;
+
+/**
+ * Implementation of the {@link StaffScheduleService} interface. Every write
+ * recomputes the staff member's capacity bitmap once it is committed.
+ */
+@Service
+public class StaffScheduleServiceImpl implements StaffScheduleService {
+
+	@Autowired
+	private StaffRepository staffRepository;
+
+	@Autowired
+	private WorkingHoursRepository workingHoursRepository;
+
+	@Autowired
+	private ShiftExceptionRepository shiftExceptionRepository;
+
+	@Autowired
+	private ScheduleMapper scheduleMapper;
+
+	@Autowired
+	private StaffCapacity staffCapacity;
+
+	@Autowired
+	private StaffSkillMatrix skillMatrix;
+
+	@Autowired
+	private JsonSnapshotCache jsonCache;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	/**
+	 * Retrieves the weekly working hours of a staff member.
+	 * 
+	 * @param staffId The ID of the staff member.
+	 * @return Their shifts ordered by day and start time.
+	 */
+	@Override
+	public List<WorkingHoursDto> getWorkingHours(Long staffId) {
+		requireStaff(staffId);
+		// Sorted here because the day is stored by name
+		List<WorkingHours> shifts = new ArrayList<>(workingHoursRepository.findByStaffId(staffId));
+		shifts.sort(Comparator.comparing(WorkingHours::getDayOfWeek).thenComparing(WorkingHours::getStartTime));
+		return scheduleMapper.toWorkingHoursDtos(shifts);
+	}
+
+	/**
+	 * Replaces the weekly working hours of a staff member.
+	 * 
+	 * @param staffId      The ID of the staff member.
+	 * @param workingHours The new shifts.
+	 * @return The saved shifts ordered by day and start time.
+	 */
+	@Override
+	public List<WorkingHoursDto> replaceWorkingHours(Long staffId, List<WorkingHoursDto> workingHours) {
+		requireStaff(staffId);
+		List<WorkingHours> shifts = workingHours.stream().map(dto -> {
+			if (dto.getDayOfWeek() == null) {
+				throw new StaffException("Day of week is required");
+			}
+			validateRange(dto.getStartTime(), dto.getEndTime());
+			WorkingHours shift = scheduleMapper.toEntity(dto);
+			shift.setId(null);
+			shift.setStaffId(staffId);
+			return shift;
+		}).toList();
+
+		// Delete and insert in one transaction so readers never see an empty week
+		transactionTemplate.executeWithoutResult(status -> {
+			workingHoursRepository.deleteByStaffId(staffId);
+			workingHoursRepository.saveAll(shifts);
+		});
+		scheduleChanged(staffId);
+		return getWorkingHours(staffId);
+	}
+
+	/**
+	 * Retrieves the shift exceptions of a staff member in a date range.
+	 * 
+	 * @param staffId The ID of the staff member.
+	 * @param from    The first date, inclusive.
+	 * @param to      The last date, inclusive.
+	 * @return The exceptions ordered by date and start time.
+	 */
+	@Override
+	public List<ShiftExceptionDto> getShiftExceptions(Long staffId, LocalDate from, LocalDate to) {
+		requireStaff(staffId);
+		if (from.isAfter(to)) {
+			throw new StaffException("Invalid date range: from must not be after to");
+		}
+		return scheduleMapper.toShiftExceptionDtos(
+				shiftExceptionRepository.findByStaffIdAndDateBetweenOrderByDateAscStartTimeAsc(staffId, from, to));
+	}
+
+	/**
+	 * Adds a shift exception for a staff member.
+	 * 
+	 * @param staffId           The ID of the staff member.
+	 * @param shiftExceptionDto The exception to add.
+	 * @return The saved exception.
+	 */
+	@Override
+	public ShiftExceptionDto addShiftException(Long staffId, ShiftExceptionDto shiftExceptionDto) {
+		requireStaff(staffId);
+		if (shiftExceptionDto.getDate() == null || shiftExceptionDto.getType() == null) {
+			throw new StaffException("Date and type are required");
+		}
+		if (shiftExceptionDto.getStartTime() != null || shiftExceptionDto.getEndTime() != null) {
+			validateRange(shiftExceptionDto.getStartTime(), shiftExceptionDto.getEndTime());
+		}
+		ShiftException exception = scheduleMapper.toEntity(shiftExceptionDto);
+		exception.setId(null);
+		exception.setStaffId(staffId);
+		ShiftException saved = shiftExceptionRepository.save(exception);
+		scheduleChanged(staffId);
+		return scheduleMapper.toDto(saved);
+	}
+
+	/**
+	 * Deletes a shift exception of a staff member.
+	 * 
+	 * @param staffId     The ID of the staff member.
+	 * @param exceptionId The ID of the exception.
+	 */
+	@Override
+	public void deleteShiftException(Long staffId, Long exceptionId) {
+		ShiftException exception = shiftExceptionRepository.findById(exceptionId)
+				.filter(found -> found.getStaffId().equals(staffId))
+				.orElseThrow(() -> new StaffException("Shift exception not found"));
+		shiftExceptionRepository.delete(exception);
+		scheduleChanged(staffId);
+	}
+
+	/**
+	 * Deletes all working hours and shift exceptions of a staff member.
+	 * 
+	 * @param staffId The ID of the staff member.
+	 */
+	@Override
+	public void deleteSchedule(Long staffId) {
+		transactionTemplate.executeWithoutResult(status -> {
+			workingHoursRepository.deleteByStaffId(staffId);
+			shiftExceptionRepository.deleteByStaffId(staffId);
+		});
+		scheduleChanged(staffId);
+	}
+
+	/**
+	 * Retrieves the precomputed capacity of staff members.
+	 * 
+	 * @param staffIds The IDs of the staff members, or empty for all of them.
+	 * @return One capacity bitmap per staff member.
+	 */
+	@Override
+	public List<StaffCapacityDto> getCapacity(Collection<Long> staffIds) {
+		if (staffIds.isEmpty()) {
+			return staffCapacity.get(skillMatrix.find(Set.of(), null).stream().map(StaffDto::getId).toList());
+		}
+		return staffCapacity.get(staffIds);
+	}
+
+	private void requireStaff(Long staffId) {
+		if (!staffRepository.existsById(staffId)) {
+			throw new StaffException("Staff member not found");
+		}
+	}
+
+	private static void validateRange(LocalTime start, LocalTime end) {
+		if (start == null || end == null) {
+			throw new StaffException("Start and end time are required");
+		}
+		if (!StaffCapacity.isOnGrid(start) || !StaffCapacity.isOnGrid(end)) {
+			throw new StaffException("Times must be on the " + StaffCapacity.SLOT_MINUTES + "-minute grid");
+		}
+		if (StaffCapacity.slotOf(end, true) <= StaffCapacity.slotOf(start, false)) {
+			throw new StaffException("Invalid time range: start must be before end");
+		}
+	}
+
+	// Runs after the commit so the recomputed bitmap reflects it
+	private void scheduleChanged(Long staffId) {
+		staffCapacity.refresh(staffId);
+		jsonCache.invalidate();
+	}
+}
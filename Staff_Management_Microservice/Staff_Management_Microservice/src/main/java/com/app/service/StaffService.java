@@ -1,7 +1,9 @@
 package com.app.service;
 
 import com.app.dto.StaffDto;
+import com.app.entity.Gender;
 import java.util.List;
+import java.util.Set;
 
 /**
  * staff interface for managing staff members. Provides methods for CRUD
@@ -47,4 +49,14 @@ public interface StaffService {
 	 * @return A list of all staff members.
 	 */
 	List<StaffDto> getAllStaff();
+
+	/**
+	 * Retrieves the staff members who can perform all of the given services,
+	 * optionally of one gender.
+	 * 
+	 * @param serviceIds The services they must all offer, or empty for any.
+	 * @param gender     Their gender, or null for any.
+	 * @return The matching staff members ordered by ID.
+	 */
+	List<StaffDto> findStaff(Set<Long> serviceIds, Gender gender);
 }
@@ -1,13 +1,15 @@
 package com.app.service;
 
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.app.dto.StaffDto;
+import com.app.mapper.StaffMapper;
+import com.app.entity.Gender;
 import com.app.entity.Staff;
 import com.app.exception.StaffException;
 import com.app.repository.StaffRepository;
@@ -23,7 +25,16 @@ public class StaffServiceImpl implements StaffService {
 	private StaffRepository staffRepository;
 
 	@Autowired
-	private ModelMapper modelMapper;
+	private StaffMapper staffMapper;
+
+	@Autowired
+	private JsonSnapshotCache jsonCache;
+
+	@Autowired
+	private StaffSkillMatrix skillMatrix;
+
+	@Autowired
+	private StaffScheduleService scheduleService;
 
 	/**
 	 * Creates a new staff member.
@@ -34,11 +45,15 @@ public class StaffServiceImpl implements StaffService {
 	@Override
 	public StaffDto createStaff(StaffDto staffDto) {
 		// Convert DTO to Entity
-		Staff staff = modelMapper.map(staffDto, Staff.class);
+		Staff staff = staffMapper.toEntity(staffDto);
+		includePrimarySkill(staff);
 		// Save the entity
 		Staff savedStaff = staffRepository.save(staff);
-		// Convert back to DTO
-		return modelMapper.map(savedStaff, StaffDto.class);
+		jsonCache.invalidate();
+		// Convert back to DTO and add it to the skill matrix
+		StaffDto savedDto = staffMapper.toDto(savedStaff);
+		skillMatrix.put(savedDto);
+		return savedDto;
 	}
 
 	/**
@@ -54,11 +69,15 @@ public class StaffServiceImpl implements StaffService {
 		Staff existingStaff = staffRepository.findById(staffId)
 				.orElseThrow(() -> new StaffException("Staff member not found"));
 		// Update entity fields
-		modelMapper.map(staffDto, existingStaff);
+		staffMapper.update(staffDto, existingStaff);
+		includePrimarySkill(existingStaff);
 		// Save updated entity
 		Staff updatedStaff = staffRepository.save(existingStaff);
-		// Convert back to DTO
-		return modelMapper.map(updatedStaff, StaffDto.class);
+		jsonCache.invalidate();
+		// Convert back to DTO and move it in the skill matrix if its skills changed
+		StaffDto updatedDto = staffMapper.toDto(updatedStaff);
+		skillMatrix.put(updatedDto);
+		return updatedDto;
 	}
 
 	/**
@@ -69,6 +88,9 @@ public class StaffServiceImpl implements StaffService {
 	@Override
 	public void deleteStaff(Long staffId) {
 		staffRepository.deleteById(staffId);
+		jsonCache.invalidate();
+		skillMatrix.remove(staffId);
+		scheduleService.deleteSchedule(staffId);
 	}
 
 	/**
@@ -83,7 +105,7 @@ public class StaffServiceImpl implements StaffService {
 		Staff staff = staffRepository.findById(staffId)
 				.orElseThrow(() -> new StaffException("Staff member not found"));
 		// Convert to DTO
-		return modelMapper.map(staff, StaffDto.class);
+		return staffMapper.toDto(staff);
 	}
 
 	/**
@@ -96,6 +118,29 @@ public class StaffServiceImpl implements StaffService {
 		// Find all staff members
 		List<Staff> staffList = staffRepository.findAll();
 		// Convert to DTO list
-		return staffList.stream().map(staff -> modelMapper.map(staff, StaffDto.class)).collect(Collectors.toList());
+		return staffMapper.toDtos(staffList);
+	}
+
+	/**
+	 * Retrieves staff members by skills and gender from the in-memory skill
+	 * matrix.
+	 * 
+	 * @param serviceIds The services they must all offer, or empty for any.
+	 * @param gender     Their gender, or null for any.
+	 * @return The matching staff members ordered by ID.
+	 */
+	@Override
+	public List<StaffDto> findStaff(Set<Long> serviceIds, Gender gender) {
+		return skillMatrix.find(serviceIds, gender);
+	}
+
+	// The primary service is always one of the staff member's skills
+	private static void includePrimarySkill(Staff staff) {
+		if (staff.getSkills() == null) {
+			staff.setSkills(new HashSet<>());
+		}
+		if (staff.getServiceId() != null) {
+			staff.getSkills().add(staff.getServiceId());
+		}
 	}
 }
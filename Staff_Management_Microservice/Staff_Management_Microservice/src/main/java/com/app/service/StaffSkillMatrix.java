@@ -0,0 +1,273 @@
+package com.app.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.app.dto.StaffDto;
+import com.app.entity.Gender;
+import com.app.mapper.StaffMapper;
+import com.app.repository.StaffRepository;
+
+/**
+ * In-memory skill matrix: every staff member gets a dense column number and
+ * every service and gender a compressed bitmap of the columns that match it, so
+ * "staff who can do services A and B, of gender X" is an AND of a few bitmaps.
+ * Loaded from the database on first use, kept up to date incrementally by
+ * {@link StaffServiceImpl} and rebuilt after a refresh interval so changes made
+ * on other nodes are picked up. Every write publishes a new immutable
+ * generation, so lookups never lock, always see the service and gender bitmaps
+ * of the same write, and never touch the database while the matrix is fresh.
+ */
+@Component
+public class StaffSkillMatrix {
+
+	@Autowired
+	private StaffRepository staffRepository;
+
+	@Autowired
+	private StaffMapper staffMapper;
+
+	@Autowired
+	private JsonSnapshotCache jsonCache;
+
+	@Value("${staff.index.refresh-seconds:300}")
+	private long refreshSeconds;
+
+	private volatile Matrix matrix;
+
+	/**
+	 * Finds the staff members who can perform all of the given services and are
+	 * of the given gender.
+	 *
+	 * @param serviceIds The services they must offer, or empty for any.
+	 * @param gender     Their gender, or null for any.
+	 * @return The matching staff members ordered by ID; callers must not modify
+	 *         them.
+	 */
+	public List<StaffDto> find(Set<Long> serviceIds, Gender gender) {
+		Matrix current = current();
+		List<RoaringBitmap> filters = new ArrayList<>(serviceIds.size() + 1);
+		for (Long serviceId : serviceIds) {
+			filters.add(current.byService.get(serviceId));
+		}
+		if (gender != null) {
+			filters.add(current.byGender.get(gender));
+		}
+		if (filters.contains(null)) {
+			return List.of();
+		}
+		RoaringBitmap matches = filters.isEmpty() ? current.all
+				: FastAggregation.and(filters.toArray(RoaringBitmap[]::new));
+
+		StaffDto[] columns = current.columns;
+		List<StaffDto> result = new ArrayList<>(matches.getCardinality());
+		matches.forEach((int column) -> result.add(columns[column]));
+		return result;
+	}
+
+	/**
+	 * Records a created or updated staff member, moving it between services and
+	 * genders as needed.
+	 */
+	public synchronized void put(StaffDto staff) {
+		Matrix current = matrix;
+		if (current != null) {
+			matrix = current.with(staff);
+		}
+	}
+
+	/**
+	 * Forgets a deleted staff member.
+	 */
+	public synchronized void remove(Long staffId) {
+		Matrix current = matrix;
+		if (current != null) {
+			matrix = current.without(staffId);
+		}
+	}
+
+	private Matrix current() {
+		Matrix current = matrix;
+		if (current == null || current.isStale(refreshSeconds)) {
+			current = reload();
+		}
+		return current;
+	}
+
+	// Synchronized with put/remove so a write is never lost to a concurrent rebuild
+	private synchronized Matrix reload() {
+		Matrix current = matrix;
+		if (current != null && !current.isStale(refreshSeconds)) {
+			return current;
+		}
+		List<StaffDto> staff = new ArrayList<>(staffMapper.toDtos(staffRepository.findAll()));
+		// Columns in ID order keep lookup results sorted without a sort step
+		staff.sort(Comparator.comparing(StaffDto::getId));
+		Matrix loaded = Matrix.build(staff);
+		matrix = loaded;
+		// A rebuild may bring in changes made on other nodes; cached lists must not outlive it
+		jsonCache.invalidate();
+		return loaded;
+	}
+
+	/**
+	 * One immutable generation of the matrix. Writers (serialized by the
+	 * enclosing component) derive a new generation that shares every bitmap they
+	 * do not touch, so a reader holding one generation sees the service and
+	 * gender bitmaps of the same write. An updated staff member keeps its column;
+	 * columns of deleted staff are not reused until the next rebuild.
+	 */
+	private static final class Matrix {
+
+		final Map<Long, Integer> columnById;
+		final Map<Long, RoaringBitmap> byService;
+		final Map<Gender, RoaringBitmap> byGender;
+		final RoaringBitmap all;
+		final StaffDto[] columns;
+		final int nextColumn;
+		final long loadedAt;
+
+		private Matrix(Map<Long, Integer> columnById, Map<Long, RoaringBitmap> byService,
+				Map<Gender, RoaringBitmap> byGender, RoaringBitmap all, StaffDto[] columns, int nextColumn,
+				long loadedAt) {
+			this.columnById = columnById;
+			this.byService = byService;
+			this.byGender = byGender;
+			this.all = all;
+			this.columns = columns;
+			this.nextColumn = nextColumn;
+			this.loadedAt = loadedAt;
+		}
+
+		static Matrix build(List<StaffDto> staff) {
+			Map<Long, Integer> columnById = new HashMap<>();
+			Map<Long, RoaringBitmap> services = new HashMap<>();
+			Map<Gender, RoaringBitmap> genders = new EnumMap<>(Gender.class);
+			RoaringBitmap all = new RoaringBitmap();
+			StaffDto[] columns = new StaffDto[Math.max(16, staff.size())];
+			int column = 0;
+			for (StaffDto member : staff) {
+				columns[column] = member;
+				columnById.put(member.getId(), column);
+				all.add(column);
+				for (Long serviceId : skills(member)) {
+					services.computeIfAbsent(serviceId, id -> new RoaringBitmap()).add(column);
+				}
+				if (member.getGender() != null) {
+					genders.computeIfAbsent(member.getGender(), g -> new RoaringBitmap()).add(column);
+				}
+				column++;
+			}
+			services.values().forEach(RoaringBitmap::runOptimize);
+			genders.values().forEach(RoaringBitmap::runOptimize);
+			all.runOptimize();
+			return new Matrix(columnById, services, genders, all, columns, column, System.currentTimeMillis());
+		}
+
+		boolean isStale(long refreshSeconds) {
+			return System.currentTimeMillis() - loadedAt > refreshSeconds * 1000;
+		}
+
+		Matrix with(StaffDto staff) {
+			Builder next = new Builder(this);
+			Integer existing = columnById.get(staff.getId());
+			int column;
+			if (existing != null) {
+				column = existing;
+				next.unlink(columns[column], column);
+			} else {
+				column = next.nextColumn++;
+				if (column == next.columns.length) {
+					next.columns = Arrays.copyOf(next.columns, column * 2);
+				}
+				next.all = withColumn(all, column);
+			}
+			next.columns[column] = staff;
+			next.columnById.put(staff.getId(), column);
+			for (Long serviceId : skills(staff)) {
+				next.byService.put(serviceId, withColumn(next.byService.get(serviceId), column));
+			}
+			if (staff.getGender() != null) {
+				next.byGender.put(staff.getGender(), withColumn(next.byGender.get(staff.getGender()), column));
+			}
+			return next.build(loadedAt);
+		}
+
+		Matrix without(Long staffId) {
+			Integer column = columnById.get(staffId);
+			if (column == null) {
+				return this;
+			}
+			Builder next = new Builder(this);
+			next.columnById.remove(staffId);
+			next.all = withoutColumn(all, column);
+			next.unlink(columns[column], column);
+			return next.build(loadedAt);
+		}
+
+		private static Set<Long> skills(StaffDto staff) {
+			return staff.getSkills() == null ? Set.of() : staff.getSkills();
+		}
+
+		private static RoaringBitmap withColumn(RoaringBitmap bitmap, int column) {
+			RoaringBitmap copy = bitmap == null ? new RoaringBitmap() : bitmap.clone();
+			copy.add(column);
+			return copy;
+		}
+
+		private static RoaringBitmap withoutColumn(RoaringBitmap bitmap, int column) {
+			RoaringBitmap copy = bitmap.clone();
+			copy.remove(column);
+			return copy;
+		}
+
+		/**
+		 * Shallow copy of a generation that a single write changes before it is
+		 * published as the next one.
+		 */
+		private static final class Builder {
+
+			final Map<Long, Integer> columnById;
+			final Map<Long, RoaringBitmap> byService;
+			final Map<Gender, RoaringBitmap> byGender;
+			RoaringBitmap all;
+			StaffDto[] columns;
+			int nextColumn;
+
+			Builder(Matrix from) {
+				columnById = new HashMap<>(from.columnById);
+				byService = new HashMap<>(from.byService);
+				byGender = new EnumMap<>(Gender.class);
+				byGender.putAll(from.byGender);
+				all = from.all;
+				columns = from.columns.clone();
+				nextColumn = from.nextColumn;
+			}
+
+			void unlink(StaffDto previous, int column) {
+				for (Long serviceId : skills(previous)) {
+					byService.computeIfPresent(serviceId, (id, bitmap) -> withoutColumn(bitmap, column));
+				}
+				if (previous.getGender() != null) {
+					byGender.computeIfPresent(previous.getGender(), (g, bitmap) -> withoutColumn(bitmap, column));
+				}
+			}
+
+			Matrix build(long loadedAt) {
+				return new Matrix(columnById, byService, byGender, all, columns, nextColumn, loadedAt);
+			}
+		}
+	}
+}
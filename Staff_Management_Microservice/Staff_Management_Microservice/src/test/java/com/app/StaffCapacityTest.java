@@ -0,0 +1,127 @@
+package com.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.app.dto.StaffCapacityDto;
+import com.app.entity.ShiftException;
+import com.app.entity.ShiftExceptionType;
+import com.app.entity.WorkingHours;
+import com.app.repository.ShiftExceptionRepository;
+import com.app.repository.WorkingHoursRepository;
+import com.app.service.JsonSnapshotCache;
+import com.app.service.StaffCapacity;
+
+class StaffCapacityTest {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final int DAY = StaffCapacity.SLOTS_PER_DAY;
+
+    @Mock
+    private WorkingHoursRepository workingHoursRepository;
+
+    @Mock
+    private ShiftExceptionRepository shiftExceptionRepository;
+
+    @Mock
+    private JsonSnapshotCache jsonCache;
+
+    @InjectMocks
+    private StaffCapacity staffCapacity;
+
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(staffCapacity, "windowDays", 60);
+        ReflectionTestUtils.setField(staffCapacity, "refreshSeconds", 300L);
+        ReflectionTestUtils.setField(staffCapacity, "zoneId", ZONE);
+        today = LocalDate.now(ZONE);
+    }
+
+    @Test
+    void testWeeklyHoursWithExceptions() {
+        // Arrange: 09:00-12:00 on today's weekday, off 10:00-11:00 today, extra morning tomorrow
+        when(workingHoursRepository.findAll()).thenReturn(List.of(
+                new WorkingHours(1L, 1L, today.getDayOfWeek(), LocalTime.of(9, 0), LocalTime.of(12, 0))));
+        when(shiftExceptionRepository.findByDateBetween(today, today.plusDays(59))).thenReturn(List.of(
+                new ShiftException(1L, 1L, today, LocalTime.of(10, 0), LocalTime.of(11, 0), ShiftExceptionType.UNAVAILABLE),
+                new ShiftException(2L, 1L, today.plusDays(1), LocalTime.of(12, 0), LocalTime.MIDNIGHT, ShiftExceptionType.UNAVAILABLE),
+                new ShiftException(3L, 1L, today.plusDays(1), null, null, ShiftExceptionType.AVAILABLE)));
+
+        // Act
+        List<StaffCapacityDto> capacity = staffCapacity.get(List.of(1L, 2L));
+
+        // Assert
+        BitSet slots = BitSet.valueOf(capacity.get(0).getSlots());
+        assertEquals(today, capacity.get(0).getFrom());
+        assertTrue(slots.get(slot(0, 9, 0)) && slots.get(slot(0, 9, 55)));
+        assertFalse(slots.get(slot(0, 10, 0)) || slots.get(slot(0, 10, 55)));
+        assertTrue(slots.get(slot(0, 11, 0)) && slots.get(slot(0, 11, 55)));
+        assertFalse(slots.get(slot(0, 12, 0)));
+        assertEquals(12 * 12, slots.get(DAY, 2 * DAY).cardinality());
+        assertTrue(slots.get(slot(7, 10, 0)));
+        assertEquals(0, capacity.get(1).getSlots().length);
+    }
+
+    @Test
+    void testRefreshRecomputesOneStaffMember() {
+        // Arrange
+        staffCapacity.get(List.of(1L));
+        when(workingHoursRepository.findByStaffId(1L)).thenReturn(List.of(
+                new WorkingHours(1L, 1L, today.getDayOfWeek(), LocalTime.of(14, 0), LocalTime.of(15, 0))));
+        when(shiftExceptionRepository.findByStaffIdAndDateBetweenOrderByDateAscStartTimeAsc(eq(1L), any(), any()))
+                .thenReturn(List.of());
+
+        // Act
+        staffCapacity.refresh(1L);
+
+        // Assert
+        BitSet slots = BitSet.valueOf(staffCapacity.get(List.of(1L)).get(0).getSlots());
+        assertEquals(slot(0, 14, 0), slots.nextSetBit(0));
+        assertEquals(slot(0, 15, 0), slots.nextClearBit(slot(0, 14, 0)));
+    }
+
+    @Test
+    void testRefreshIntervalPicksUpChangesFromOtherNodes() {
+        // Arrange: another node adds working hours after this one built the window
+        staffCapacity.get(List.of(1L));
+        when(workingHoursRepository.findAll()).thenReturn(List.of(
+                new WorkingHours(1L, 1L, today.getDayOfWeek(), LocalTime.of(9, 0), LocalTime.of(10, 0))));
+        assertEquals(0, staffCapacity.get(List.of(1L)).get(0).getSlots().length);
+
+        // Act: the refresh interval has passed
+        ReflectionTestUtils.setField(staffCapacity, "refreshSeconds", -1L);
+        List<StaffCapacityDto> capacity = staffCapacity.get(List.of(1L));
+
+        // Assert
+        assertEquals(slot(0, 9, 0), BitSet.valueOf(capacity.get(0).getSlots()).nextSetBit(0));
+        verify(workingHoursRepository, times(2)).findAll();
+        verify(jsonCache, times(2)).invalidate();
+    }
+
+    private static int slot(int day, int hour, int minute) {
+        return day * DAY + StaffCapacity.slotOf(LocalTime.of(hour, minute), false);
+    }
+}
@@ -0,0 +1,88 @@
+package com.app;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.app.controller.StaffController;
+import com.app.dto.StaffDto;
+import com.app.entity.Gender;
+import com.app.service.JsonSnapshotCache;
+import com.app.service.StaffService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class StaffListETagTest {
+
+    @Mock
+    private StaffService staffService;
+
+    @Spy
+    private JsonSnapshotCache jsonCache = new JsonSnapshotCache(256, 30);
+
+    @InjectMocks
+    private StaffController staffController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(jsonCache, "objectMapper", new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(staffController).build();
+    }
+
+    @Test
+    void testFilteredListRevalidatesUntilWrite() throws Exception {
+        // Arrange
+        when(staffService.findStaff(any(), eq(Gender.FEMALE))).thenReturn(List.of(staff("Asha")));
+        String etag = mockMvc.perform(get("/api/staff").param("gender", "FEMALE")).andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Asha")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert: revalidation is answered from the snapshot, a write reloads
+        mockMvc.perform(get("/api/staff").param("gender", "FEMALE").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(staffService, times(1)).findStaff(any(), eq(Gender.FEMALE));
+
+        when(staffService.findStaff(any(), eq(Gender.FEMALE))).thenReturn(List.of(staff("Asha"), staff("Meera")));
+        jsonCache.invalidate();
+        mockMvc.perform(get("/api/staff").param("gender", "FEMALE").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk()).andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void testGzipRefusedWithZeroQuality() throws Exception {
+        // Arrange
+        when(staffService.getAllStaff()).thenReturn(List.of(staff("Asha")));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/staff").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        mockMvc.perform(get("/api/staff").header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+    }
+
+    private static StaffDto staff(String name) {
+        StaffDto staff = new StaffDto();
+        staff.setName(name);
+        return staff;
+    }
+}
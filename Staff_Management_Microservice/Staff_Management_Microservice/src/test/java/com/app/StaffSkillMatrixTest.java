@@ -0,0 +1,143 @@
+package com.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.mapstruct.factory.Mappers;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.app.dto.StaffDto;
+import com.app.entity.Gender;
+import com.app.entity.Staff;
+import com.app.mapper.StaffMapper;
+import com.app.repository.StaffRepository;
+import com.app.service.JsonSnapshotCache;
+import com.app.service.StaffSkillMatrix;
+
+class StaffSkillMatrixTest {
+
+    @Mock
+    private StaffRepository staffRepository;
+
+    @Spy
+    private StaffMapper staffMapper = Mappers.getMapper(StaffMapper.class);
+
+    @Mock
+    private JsonSnapshotCache jsonCache;
+
+    @InjectMocks
+    private StaffSkillMatrix skillMatrix;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(skillMatrix, "refreshSeconds", 300L);
+        when(staffRepository.findAll()).thenReturn(List.of(staff(3L, Gender.FEMALE, 20L),
+                staff(1L, Gender.MALE, 10L), staff(2L, Gender.FEMALE, 10L, 20L)));
+    }
+
+    @Test
+    void testFindBySkillsAndGender() {
+        // Act & Assert
+        assertEquals(List.of(1L, 2L), ids(skillMatrix.find(Set.of(10L), null)));
+        assertEquals(List.of(2L), ids(skillMatrix.find(Set.of(10L, 20L), null)));
+        assertEquals(List.of(2L, 3L), ids(skillMatrix.find(Set.of(20L), Gender.FEMALE)));
+        assertEquals(List.of(1L, 2L, 3L), ids(skillMatrix.find(Set.of(), null)));
+        assertTrue(skillMatrix.find(Set.of(10L, 30L), null).isEmpty());
+        assertTrue(skillMatrix.find(Set.of(), Gender.OTHER).isEmpty());
+        verify(staffRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testUpdatesMoveStaffBetweenSkills() {
+        // Arrange
+        skillMatrix.find(Set.of(), null);
+
+        // Act
+        skillMatrix.put(staffMapper.toDto(staff(1L, Gender.MALE, 20L)));
+        skillMatrix.put(staffMapper.toDto(staff(4L, Gender.MALE, 10L, 20L)));
+        skillMatrix.remove(3L);
+
+        // Assert
+        assertEquals(List.of(2L, 4L), ids(skillMatrix.find(Set.of(10L), null)));
+        assertEquals(List.of(1L, 4L), ids(skillMatrix.find(Set.of(20L), Gender.MALE)));
+        assertEquals(List.of(1L, 2L, 4L), ids(skillMatrix.find(Set.of(), null)));
+        verify(staffRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testUpdateWithoutSkillsKeepsThem() {
+        // Arrange
+        skillMatrix.find(Set.of(), null);
+        Staff existing = staff(2L, Gender.FEMALE, 10L, 20L);
+        StaffDto update = new StaffDto();
+        update.setName("Renamed");
+        update.setServiceId(10L);
+        update.setGender(Gender.FEMALE);
+
+        // Act
+        staffMapper.update(update, existing);
+        skillMatrix.put(staffMapper.toDto(existing));
+
+        // Assert
+        assertEquals(Set.of(10L, 20L), existing.getSkills());
+        assertEquals(List.of(2L, 3L), ids(skillMatrix.find(Set.of(20L), Gender.FEMALE)));
+    }
+
+    @Test
+    void testLookupsKeepTheirGenerationDuringWrites() {
+        // Arrange
+        List<StaffDto> before = skillMatrix.find(Set.of(10L), null);
+
+        // Act: staff 2 changes gender and drops service 10
+        skillMatrix.put(staffMapper.toDto(staff(2L, Gender.MALE, 20L)));
+
+        // Assert
+        assertEquals(Gender.FEMALE, before.get(1).getGender());
+        assertEquals(List.of(1L), ids(skillMatrix.find(Set.of(10L), null)));
+        assertEquals(List.of(3L), ids(skillMatrix.find(Set.of(), Gender.FEMALE)));
+        assertEquals(List.of(1L, 2L), ids(skillMatrix.find(Set.of(), Gender.MALE)));
+    }
+
+    @Test
+    void testRebuildInvalidatesCachedLists() {
+        // Arrange
+        skillMatrix.find(Set.of(), null);
+        verify(jsonCache, times(1)).invalidate();
+
+        // Act: the refresh interval has passed
+        ReflectionTestUtils.setField(skillMatrix, "refreshSeconds", -1L);
+        skillMatrix.find(Set.of(), null);
+
+        // Assert
+        verify(staffRepository, times(2)).findAll();
+        verify(jsonCache, times(2)).invalidate();
+    }
+
+    private static Staff staff(Long id, Gender gender, Long... skills) {
+        Staff staff = new Staff();
+        staff.setId(id);
+        staff.setName("Staff " + id);
+        staff.setServiceId(skills[0]);
+        staff.setSkills(new HashSet<>(Set.of(skills)));
+        staff.setGender(gender);
+        return staff;
+    }
+
+    private static List<Long> ids(List<StaffDto> staff) {
+        return staff.stream().map(StaffDto::getId).toList();
+    }
+}
@@ -0,0 +1,83 @@
+package com.app.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.app.dto.StaffDto;
+import com.app.entity.Staff;
+import com.app.entity.Gender;
+import com.app.mapper.StaffMapper;
+import com.app.mapper.StaffMapperImpl;
+
+/**
+ * JMH comparison of the generated {@link StaffMapper} with ModelMapper for a
+ * single staff member and a 10k-element list. Run it with
+ * {@code mvn -Pbenchmark -DskipTests test -Djmh.args=StaffMapperBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StaffMapperBenchmark {
+
+	private static final int LIST_SIZE = 10_000;
+
+	private final StaffMapper staffMapper = new StaffMapperImpl();
+
+	private final ModelMapper modelMapper = new ModelMapper();
+
+	private Staff staff;
+
+	private List<Staff> staffList;
+
+	@Setup
+	public void setUp() {
+		staffList = new ArrayList<>(LIST_SIZE);
+		for (int i = 0; i < LIST_SIZE; i++) {
+			Staff s = new Staff();
+			s.setId((long) i);
+			s.setName("Staff " + i);
+			s.setDetails("Details of staff member " + i);
+			s.setServiceId(i % 7L);
+			s.setGender(Gender.values()[i % Gender.values().length]);
+			staffList.add(s);
+		}
+		staff = staffList.get(0);
+	}
+
+	@Benchmark
+	public StaffDto generatedSingle() {
+		return staffMapper.toDto(staff);
+	}
+
+	@Benchmark
+	public StaffDto modelMapperSingle() {
+		return modelMapper.map(staff, StaffDto.class);
+	}
+
+	@Benchmark
+	public List<StaffDto> generatedList() {
+		return staffMapper.toDtos(staffList);
+	}
+
+	@Benchmark
+	public List<StaffDto> modelMapperList() {
+		return staffList.stream().map(s -> modelMapper.map(s, StaffDto.class)).collect(Collectors.toList());
+	}
+}
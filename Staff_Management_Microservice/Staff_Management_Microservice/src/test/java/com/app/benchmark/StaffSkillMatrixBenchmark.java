@@ -0,0 +1,117 @@
+package com.app.benchmark;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.app.dto.StaffDto;
+import com.app.entity.Gender;
+import com.app.entity.Staff;
+import com.app.mapper.StaffMapper;
+import com.app.mapper.StaffMapperImpl;
+import com.app.repository.StaffRepository;
+import com.app.service.StaffSkillMatrix;
+
+/**
+ * JMH comparison of {@link StaffSkillMatrix} lookups with a scan of every staff
+ * member's skill set, for 50k staff and 2k services. A fifth of the services
+ * are common, the rest rare. Run it with
+ * {@code mvn -Pbenchmark -DskipTests test -Djmh.args=StaffSkillMatrixBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StaffSkillMatrixBenchmark {
+
+	private static final int STAFF = 50_000;
+	private static final int SERVICES = 2_000;
+	private static final int COMMON_SERVICES = 400;
+
+	private static final Set<Long> TWO_COMMON = Set.of(1L, 2L);
+	private static final Set<Long> COMMON_AND_RARE = Set.of(1L, 1_500L);
+
+	private final StaffMapper staffMapper = new StaffMapperImpl();
+
+	private final StaffSkillMatrix skillMatrix = new StaffSkillMatrix();
+
+	private List<StaffDto> staffList;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		List<Staff> entities = new ArrayList<>(STAFF);
+		for (int i = 0; i < STAFF; i++) {
+			Staff s = new Staff();
+			s.setId((long) i);
+			s.setName("Staff " + i);
+			s.setGender(Gender.values()[i % Gender.values().length]);
+			Set<Long> skills = new HashSet<>();
+			for (int k = 3 + random.nextInt(6); k > 0; k--) {
+				skills.add(random.nextBoolean() ? 1L + random.nextInt(COMMON_SERVICES)
+						: 1L + random.nextInt(SERVICES));
+			}
+			s.setSkills(skills);
+			s.setServiceId(skills.iterator().next());
+			entities.add(s);
+		}
+		staffList = staffMapper.toDtos(entities);
+
+		StaffRepository staffRepository = mock(StaffRepository.class);
+		when(staffRepository.findAll()).thenReturn(entities);
+		ReflectionTestUtils.setField(skillMatrix, "staffRepository", staffRepository);
+		ReflectionTestUtils.setField(skillMatrix, "staffMapper", staffMapper);
+		ReflectionTestUtils.setField(skillMatrix, "refreshSeconds", 3600L);
+		skillMatrix.find(Set.of(), null);
+	}
+
+	@Benchmark
+	public List<StaffDto> matrixTwoCommonOfGender() {
+		return skillMatrix.find(TWO_COMMON, Gender.FEMALE);
+	}
+
+	@Benchmark
+	public List<StaffDto> scanTwoCommonOfGender() {
+		return scan(TWO_COMMON, Gender.FEMALE);
+	}
+
+	@Benchmark
+	public List<StaffDto> matrixCommonAndRare() {
+		return skillMatrix.find(COMMON_AND_RARE, null);
+	}
+
+	@Benchmark
+	public List<StaffDto> scanCommonAndRare() {
+		return scan(COMMON_AND_RARE, null);
+	}
+
+	private List<StaffDto> scan(Set<Long> serviceIds, Gender gender) {
+		List<StaffDto> result = new ArrayList<>();
+		for (StaffDto s : staffList) {
+			if (s.getSkills().containsAll(serviceIds) && (gender == null || gender == s.getGender())) {
+				result.add(s);
+			}
+		}
+		return result;
+	}
+}
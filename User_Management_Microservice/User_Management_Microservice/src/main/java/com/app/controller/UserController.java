@@ -1,13 +1,22 @@
 package com.app.controller;
 
 import com.app.dto.UserDto;
+import com.app.dto.UserPageDto;
+import com.app.service.IdempotencyStore;
+import com.app.service.JsonSnapshotCache;
+import com.app.service.JsonSnapshotCache.Snapshot;
 import com.app.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,20 +29,32 @@ import java.util.List;
 @Tag(name = "User Management", description = "APIs for managing user profiles and authentication")
 public class UserController {
 
+	private static final int DEFAULT_PAGE_SIZE = 20;
+
 	@Autowired
 	private UserService userService; // Service class for handling user-related business logic
 
+	@Autowired
+	private IdempotencyStore idempotencyStore; // Replays responses of retried create requests
+
+	@Autowired
+	private JsonSnapshotCache jsonCache; // Serialized list responses tagged with an ETag
+
 	/**
-	 * Endpoint to create a new user.
+	 * Endpoint to create a new user. Retries carrying the same Idempotency-Key
+	 * return the user created by the first request.
 	 * 
-	 * @param userDto Data transfer object containing user details
+	 * @param userDto        Data transfer object containing user details
+	 * @param idempotencyKey Optional client-chosen key identifying the request
 	 * @return ResponseEntity containing the created UserDto
 	 */
-	@Operation(summary = "Create a new user", description = "Create a new user with the provided details")
+	@Operation(summary = "Create a new user", description = "Create a new user with the provided details. Send an Idempotency-Key header to make retries safe.")
 	@ApiResponse(responseCode = "200", description = "User created successfully")
+	@ApiResponse(responseCode = "422", description = "Idempotency-Key reused with a different request")
 	@PostMapping
-	public ResponseEntity<UserDto> createUser(@RequestBody UserDto userDto) {
-		UserDto createdUser = userService.createUser(userDto);
+	public ResponseEntity<UserDto> createUser(@RequestBody UserDto userDto,
+			@RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+		UserDto createdUser = idempotencyStore.execute(idempotencyKey, userDto, () -> userService.createUser(userDto));
 		return ResponseEntity.ok(createdUser); // Return the created user details
 	}
 
@@ -51,6 +72,33 @@ public class UserController {
 		return ResponseEntity.ok(userDto); // Return the user details
 	}
 
+	/**
+	 * Endpoint to retrieve a user by their email address, without the password.
+	 * 
+	 * @param email Email address of the user
+	 * @return ResponseEntity containing the UserDto of the requested user
+	 */
+	@Operation(summary = "Get user by email", description = "Retrieve a user by their email address; the password is not included")
+	@ApiResponse(responseCode = "200", description = "User retrieved successfully")
+	@GetMapping("/by-email")
+	public ResponseEntity<UserDto> getUserByEmail(@RequestParam String email) {
+		return ResponseEntity.ok(userService.getUserByEmail(email)); // Return the user details
+	}
+
+	/**
+	 * Endpoint to retrieve the users registered with a mobile number, without
+	 * their passwords.
+	 * 
+	 * @param mobileNo Mobile number of the users
+	 * @return ResponseEntity containing the matching UserDto list
+	 */
+	@Operation(summary = "Get users by mobile number", description = "Retrieve the users registered with a mobile number; passwords are not included")
+	@ApiResponse(responseCode = "200", description = "Users retrieved successfully")
+	@GetMapping("/by-mobile")
+	public ResponseEntity<List<UserDto>> getUsersByMobileNo(@RequestParam String mobileNo) {
+		return ResponseEntity.ok(userService.getUsersByMobileNo(mobileNo)); // Return the matching users
+	}
+
 	/**
 	 * Endpoint to update the details of an existing user.
 	 * 
@@ -81,16 +129,44 @@ public class UserController {
 	}
 
 	/**
-	 * Endpoint to retrieve a list of all users.
+	 * Endpoint to retrieve users. Without any of q, sort, page or size it
+	 * returns the full list as before; with any of them it returns one page of
+	 * the in-memory directory, optionally filtered by a prefix of name, email or
+	 * mobile number. Supports conditional requests: a matching If-None-Match is
+	 * answered with 304, without loading anything while the cached response is
+	 * fresh.
 	 * 
-	 * @return ResponseEntity containing a list of UserDto
+	 * @param q              Prefix of a name word, full name, email or mobile number
+	 * @param sort           Sort field (id, name, email or mobileNo), optionally followed by ",desc"
+	 * @param page           Zero-based page number, defaults to 0
+	 * @param size           Page size, defaults to 20, at most 100
+	 * @param request        The current request, used for the ETag check
+	 * @param acceptEncoding The Accept-Encoding header; gzip is served when accepted
+	 * @return ResponseEntity containing the serialized list of UserDto
 	 */
-	@Operation(summary = "Get all users", description = "Retrieve a list of all users")
-	@ApiResponse(responseCode = "200", description = "List of users retrieved successfully")
+	@Operation(summary = "Get users", description = "Retrieve all users, or one sorted page of users matching a prefix when q, sort, page or size is given")
+	@ApiResponse(responseCode = "200", description = "Users retrieved successfully: a UserDto array, or a UserPageDto when paging", content = {
+			@Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = UserDto.class))),
+			@Content(mediaType = "application/json", schema = @Schema(implementation = UserPageDto.class)) })
+	@ApiResponse(responseCode = "304", description = "List unchanged since the ETag in If-None-Match")
 	@GetMapping
-	public ResponseEntity<List<UserDto>> getAllUsers() {
-		List<UserDto> users = userService.getAllUsers();
-		return ResponseEntity.ok(users); // Return the list of all users
+	public ResponseEntity<byte[]> getAllUsers(@RequestParam(required = false) String q,
+			@RequestParam(required = false) String sort, @RequestParam(required = false) Integer page,
+			@RequestParam(required = false) Integer size, WebRequest request,
+			@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		Snapshot users;
+		if (q == null && sort == null && page == null && size == null) {
+			users = jsonCache.get("users", userService::getAllUsers); // Cached JSON of the full list
+		} else {
+			int pageNumber = page == null ? 0 : page;
+			int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+			String key = "users?q=" + q + "&sort=" + sort + "&page=" + pageNumber + "&size=" + pageSize;
+			users = jsonCache.get(key, () -> userService.searchUsers(q, sort, pageNumber, pageSize)); // Cached per query
+		}
+		if (request.checkNotModified(users.etag())) {
+			return null; // Not modified: 304 already prepared
+		}
+		return users.toResponse(acceptEncoding); // gzip if accepted
 	}
 
 }
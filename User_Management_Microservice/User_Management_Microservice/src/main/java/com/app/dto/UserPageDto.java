@@ -0,0 +1,42 @@
+package com.app.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of the user directory.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "One page of users")
+public class UserPageDto {
+
+	/**
+	 * Users on this page. Passwords are never included.
+	 */
+	@Schema(description = "Users on this page; passwords are never included")
+	private List<UserDto> content;
+
+	/**
+	 * Zero-based page number. Example: 0
+	 */
+	@Schema(description = "Zero-based page number", example = "0")
+	private int page;
+
+	/**
+	 * Requested page size. Example: 20
+	 */
+	@Schema(description = "Requested page size", example = "20")
+	private int size;
+
+	/**
+	 * Number of users matching the query across all pages. Example: 42
+	 */
+	@Schema(description = "Number of users matching the query across all pages", example = "42")
+	private long totalElements;
+}
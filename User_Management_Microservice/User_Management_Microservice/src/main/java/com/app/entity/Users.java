@@ -5,6 +5,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -17,8 +20,14 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = @Index(name = "idx_users_mobile_no", columnList = "mobileNo"), uniqueConstraints = @UniqueConstraint(name = Users.EMAIL_CONSTRAINT, columnNames = "email"))
 public class Users {
 
+	/**
+	 * Name of the unique constraint on {@link #email}.
+	 */
+	public static final String EMAIL_CONSTRAINT = "uk_users_email";
+
 	/**
 	 * Unique identifier for the user. Automatically generated by the database.
 	 */
@@ -35,7 +44,7 @@ public class Users {
 	/**
 	 * Email address of the user. This field is unique and mandatory.
 	 */
-	@Column(unique = true, nullable = false)
+	@Column(nullable = false)
 	private String email;
 
 	/**
@@ -0,0 +1,13 @@
+package com.app.exception;
+
+/**
+ * Thrown when an Idempotency-Key is sent again with a different request body.
+ * Answered with 422, since replaying the first response would hide the
+ * client's mistake.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+	public IdempotencyKeyReusedException(String message) {
+		super(message);
+	}
+}
@@ -18,6 +18,13 @@ public class RestExceptionHandler {
 		return new ResponseEntity<>(createBadRequestResponse(e.getMessage(), request), HttpStatus.BAD_REQUEST);
 	}
 
+	@ExceptionHandler(IdempotencyKeyReusedException.class)
+	public ResponseEntity<ErrorResponse> handleException(IdempotencyKeyReusedException e, HttpServletRequest request) {
+		ErrorResponse errorResponse = createBadRequestResponse(e.getMessage(), request);
+		errorResponse.setStatus(HttpStatus.UNPROCESSABLE_ENTITY.value());
+		return new ResponseEntity<>(errorResponse, HttpStatus.UNPROCESSABLE_ENTITY);
+	}
+
 	private ErrorResponse createBadRequestResponse(String localMessage, HttpServletRequest request) {
 		ErrorResponse errorResponse = new ErrorResponse();
 		errorResponse.setMessage(localMessage);
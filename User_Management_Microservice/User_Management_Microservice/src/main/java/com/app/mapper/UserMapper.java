@@ -0,0 +1,33 @@
+package com.app.mapper;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.MappingConstants;
+
+import com.app.dto.UserDto;
+import com.app.entity.Users;
+
+/**
+ * Converts users between entity and DTO. MapStruct generates the
+ * implementation at build time as plain getter and setter calls, so mapping
+ * involves no reflection or type-map lookups at runtime.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface UserMapper {
+
+	UserDto toDto(Users user);
+
+	Users toEntity(UserDto userDto);
+
+	List<UserDto> toDtos(List<Users> users);
+
+	/**
+	 * Converts a user for lookups that must not expose the password.
+	 */
+	@Named("withoutPassword")
+	@Mapping(target = "password", ignore = true)
+	UserDto toDtoWithoutPassword(Users user);
+}
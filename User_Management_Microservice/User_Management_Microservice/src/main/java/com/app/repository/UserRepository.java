@@ -1,13 +1,27 @@
 package com.app.repository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.app.entity.Users;
 
 @Repository
 public interface UserRepository extends JpaRepository<Users, Long> {
-	// Additional query methods can be defined here if needed
-	// For example, finding a user by email if you have an email field
-	// Optional<User> findByEmail(String email);
+
+	// Served by the unique index on email
+	Optional<Users> findByEmail(String email);
+
+	boolean existsByEmail(String email);
+
+	// Served by idx_users_mobile_no; a number may be shared, e.g. within a family
+	List<Users> findByMobileNo(String mobileNo);
+
+	// Only the email column, for filling the sign-up Bloom filter; needs a transaction
+	@Query("select u.email from Users u")
+	Stream<String> streamAllEmails();
 }
@@ -0,0 +1,119 @@
+package com.app.service;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.app.repository.UserRepository;
+
+/**
+ * Bloom filter over every registered email address, filled from the database
+ * at startup and updated on each sign-up. A negative answer means the address
+ * is definitely not registered on this node's view, so sign-up can skip the
+ * duplicate query; a positive answer still has to be checked against the
+ * database. Until loading finishes every address counts as possibly present.
+ * Emails registered through other nodes are caught by the unique constraint.
+ */
+@Component
+public class EmailBloomFilter {
+
+	private static final Logger log = LoggerFactory.getLogger(EmailBloomFilter.class);
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private final AtomicLongArray bits;
+	private final long bitCount;
+	private final int hashCount;
+
+	private volatile boolean loaded;
+
+	public EmailBloomFilter(@Value("${users.email-filter.expected-insertions:1000000}") long expectedInsertions,
+			@Value("${users.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+		long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int words = (int) Math.max(1, (optimalBits + 63) >>> 6);
+		this.bits = new AtomicLongArray(words);
+		this.bitCount = words * 64L;
+		this.hashCount = (int) Math.max(1, Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+	}
+
+	/**
+	 * Adds every registered email address. Runs once the application is ready.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void load() {
+		long[] count = { 0 };
+		try (Stream<String> emails = userRepository.streamAllEmails()) {
+			emails.forEach(email -> {
+				put(email);
+				count[0]++;
+			});
+		}
+		loaded = true;
+		log.info("Email filter loaded with {} addresses ({} bits, {} hashes)", count[0], bitCount, hashCount);
+	}
+
+	/**
+	 * Returns false if the address has definitely not been registered.
+	 */
+	public boolean mightContain(String email) {
+		if (!loaded) {
+			return true;
+		}
+		long hash = hash(email);
+		long h1 = mix(hash);
+		long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+			if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Records a registered address.
+	 */
+	public void put(String email) {
+		long hash = hash(email);
+		long h1 = mix(hash);
+		long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+			long mask = 1L << bit;
+			bits.accumulateAndGet((int) (bit >>> 6), mask, (word, m) -> word | m);
+		}
+	}
+
+	// FNV-1a over the normalized address; case and surrounding blanks never make two addresses differ
+	private static long hash(String email) {
+		String normalized = email.trim().toLowerCase(Locale.ROOT);
+		long hash = 0xCBF29CE484222325L;
+		for (int i = 0; i < normalized.length(); i++) {
+			hash ^= normalized.charAt(i);
+			hash *= 0x100000001B3L;
+		}
+		return hash;
+	}
+
+	// Murmur3 finalizer, spreads FNV's weak low bits
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		h *= 0xC4CEB9FE1A85EC53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
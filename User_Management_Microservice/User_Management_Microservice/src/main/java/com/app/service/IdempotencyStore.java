@@ -0,0 +1,151 @@
+package com.app.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.app.exception.IdempotencyKeyReusedException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Remembers the outcome of requests carrying an {@code Idempotency-Key} header
+ * so client retries replay the first response instead of repeating the work.
+ * Concurrent requests with the same key wait for the one in flight. A key
+ * reused with a different request body is rejected rather than replayed.
+ * Failed requests are forgotten so they can be retried. Keys expire after a
+ * TTL and the oldest keys are dropped once the store is full.
+ * <p>
+ * The booking and user modules each carry an identical copy of this class,
+ * since they are built and deployed on their own with no shared parent; a
+ * change here belongs in both.
+ */
+@Component
+public class IdempotencyStore {
+
+	public static final String HEADER = "Idempotency-Key";
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Value("${idempotency.ttl-seconds:86400}")
+	private long ttlSeconds;
+
+	@Value("${idempotency.max-keys:10000}")
+	private int maxKeys;
+
+	// Insertion order is expiry order since every key lives for the same TTL
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+	/**
+	 * Runs the action once per key and returns its result, or the result of the
+	 * earlier run with the same key.
+	 *
+	 * @param key     The idempotency key, or null to always run the action.
+	 * @param request The request body, compared with the first request's.
+	 * @param action  The work to do.
+	 * @return The action's result.
+	 * @throws IdempotencyKeyReusedException If the key was first used with a
+	 *                                       different request body.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T execute(String key, Object request, Supplier<T> action) {
+		if (key == null || key.isBlank()) {
+			return action.get();
+		}
+		byte[] fingerprint = fingerprint(request);
+		Entry mine;
+		Entry existing;
+		synchronized (entries) {
+			existing = entries.get(key);
+			if (existing != null && existing.isExpired()) {
+				entries.remove(key);
+				existing = null;
+			}
+			mine = existing == null ? new Entry(fingerprint, System.currentTimeMillis() + ttlSeconds * 1000) : null;
+			if (mine != null) {
+				entries.put(key, mine);
+				evict();
+			}
+		}
+		if (existing != null) {
+			if (!Arrays.equals(existing.fingerprint, fingerprint)) {
+				throw new IdempotencyKeyReusedException(
+						"Idempotency-Key " + key + " was already used with a different request");
+			}
+			return (T) await(existing);
+		}
+
+		try {
+			T result = action.get();
+			mine.result.complete(result);
+			return result;
+		} catch (Throwable e) {
+			// Errors too, or requests waiting on this key would hang
+			synchronized (entries) {
+				entries.remove(key, mine);
+			}
+			mine.result.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	private byte[] fingerprint(Object request) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+		} catch (JsonProcessingException | NoSuchAlgorithmException e) {
+			throw new IllegalStateException("Cannot fingerprint request", e);
+		}
+	}
+
+	private static Object await(Entry entry) {
+		try {
+			return entry.result.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	// Drops expired keys and the oldest keys beyond the bound; callers hold the lock
+	private void evict() {
+		Iterator<Entry> oldestFirst = entries.values().iterator();
+		while (oldestFirst.hasNext()) {
+			Entry entry = oldestFirst.next();
+			if (!entry.isExpired() && entries.size() <= maxKeys) {
+				return;
+			}
+			oldestFirst.remove();
+		}
+	}
+
+	private static final class Entry {
+
+		final CompletableFuture<Object> result = new CompletableFuture<>();
+		final byte[] fingerprint;
+		final long expiresAtMillis;
+
+		Entry(byte[] fingerprint, long expiresAtMillis) {
+			this.fingerprint = fingerprint;
+			this.expiresAtMillis = expiresAtMillis;
+		}
+
+		boolean isExpired() {
+			return System.currentTimeMillis() >= expiresAtMillis;
+		}
+	}
+}
@@ -0,0 +1,201 @@
+package com.app.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.app.dto.UserDto;
+import com.app.entity.Users;
+import com.app.mapper.UserMapper;
+import com.app.repository.UserRepository;
+
+/**
+ * In-memory user directory for type-ahead search. Every user is indexed under
+ * normalized keys (each word of the name, the full name, the email address and
+ * the mobile number's digits) in a concurrent skip list, so a prefix query is a
+ * range scan of the matching keys. Loaded from the database on first use, kept
+ * up to date incrementally by {@link UserServiceImpl} and rebuilt after a
+ * refresh interval so changes made on other nodes are picked up. Passwords are
+ * never held.
+ */
+@Component
+public class UserDirectory {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserMapper userMapper;
+
+	@Autowired
+	private JsonSnapshotCache jsonCache;
+
+	@Value("${users.directory.refresh-seconds:300}")
+	private long refreshSeconds;
+
+	private volatile Index index;
+
+	/**
+	 * Returns every user, in no particular order; callers must not modify them.
+	 */
+	public Collection<UserDto> all() {
+		return current().users.values();
+	}
+
+	/**
+	 * Finds the users with a name word, full name, email address or mobile
+	 * number starting with the query, ignoring case, blanks and phone number
+	 * punctuation.
+	 *
+	 * @param query The prefix typed so far.
+	 * @return The matching users, in no particular order; callers must not modify
+	 *         them.
+	 */
+	public List<UserDto> search(String query) {
+		Index current = current();
+		Set<Long> ids = new LinkedHashSet<>();
+		current.collect(normalize(query), ids);
+		// Something like "+1 (234) 5" is also looked up as the digits of a mobile number
+		if (query.matches("[\\d\\s()+.-]*\\d[\\d\\s()+.-]*")) {
+			current.collect(digits(query), ids);
+		}
+		List<UserDto> result = new ArrayList<>(ids.size());
+		for (Long id : ids) {
+			UserDto user = current.users.get(id);
+			if (user != null) {
+				result.add(user);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Records a created or updated user.
+	 */
+	public synchronized void put(Users user) {
+		Index current = index;
+		if (current != null) {
+			current.remove(user.getId());
+			current.add(userMapper.toDtoWithoutPassword(user));
+		}
+	}
+
+	/**
+	 * Forgets a deleted user.
+	 */
+	public synchronized void remove(Long userId) {
+		Index current = index;
+		if (current != null) {
+			current.remove(userId);
+		}
+	}
+
+	private Index current() {
+		Index current = index;
+		if (current == null || current.isStale(refreshSeconds)) {
+			current = reload();
+		}
+		return current;
+	}
+
+	// Synchronized with put/remove so a write is never lost to a concurrent rebuild
+	private synchronized Index reload() {
+		Index current = index;
+		if (current != null && !current.isStale(refreshSeconds)) {
+			return current;
+		}
+		Index loaded = new Index();
+		userRepository.findAll().forEach(user -> loaded.add(userMapper.toDtoWithoutPassword(user)));
+		index = loaded;
+		// A rebuild may bring in changes made on other nodes; cached pages must not outlive it
+		jsonCache.invalidate();
+		return loaded;
+	}
+
+	static String normalize(String text) {
+		return text == null ? "" : text.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+	}
+
+	static String digits(String text) {
+		return text == null ? "" : text.replaceAll("\\D", "");
+	}
+
+	/**
+	 * A directory key; ordered by key, then user ID, so one key may map to many
+	 * users.
+	 */
+	private record Entry(String key, long userId) implements Comparable<Entry> {
+
+		@Override
+		public int compareTo(Entry other) {
+			int byKey = key.compareTo(other.key);
+			return byKey != 0 ? byKey : Long.compare(userId, other.userId);
+		}
+	}
+
+	private static final class Index {
+
+		final Map<Long, UserDto> users = new ConcurrentHashMap<>();
+		final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>();
+		final long loadedAt = System.currentTimeMillis();
+
+		boolean isStale(long refreshSeconds) {
+			return System.currentTimeMillis() - loadedAt > refreshSeconds * 1000;
+		}
+
+		void collect(String prefix, Set<Long> ids) {
+			if (prefix.isEmpty()) {
+				return;
+			}
+			// Every key starting with the prefix sorts between (prefix, -inf) and the first key after it
+			for (Entry entry : entries.tailSet(new Entry(prefix, Long.MIN_VALUE))) {
+				if (!entry.key().startsWith(prefix)) {
+					break;
+				}
+				ids.add(entry.userId());
+			}
+		}
+
+		void add(UserDto user) {
+			users.put(user.getId(), user);
+			keys(user).forEach(key -> entries.add(new Entry(key, user.getId())));
+		}
+
+		void remove(Long userId) {
+			UserDto previous = users.remove(userId);
+			if (previous != null) {
+				keys(previous).forEach(key -> entries.remove(new Entry(key, userId)));
+			}
+		}
+
+		private static Set<String> keys(UserDto user) {
+			Set<String> keys = new LinkedHashSet<>();
+			String name = normalize(user.getName());
+			if (!name.isEmpty()) {
+				keys.add(name);
+				for (String word : name.split(" ")) {
+					keys.add(word);
+				}
+			}
+			String email = normalize(user.getEmail());
+			if (!email.isEmpty()) {
+				keys.add(email);
+			}
+			String mobile = digits(user.getMobileNo());
+			if (!mobile.isEmpty()) {
+				keys.add(mobile);
+			}
+			return keys;
+		}
+	}
+}
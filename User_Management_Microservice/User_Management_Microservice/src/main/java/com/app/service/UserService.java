@@ -2,6 +2,7 @@ package com.app.service;
 
 import java.util.List;
 import com.app.dto.UserDto;
+import com.app.dto.UserPageDto;
 
 /**
  * User interface for managing user-related operations.
@@ -25,6 +26,22 @@ public interface UserService {
      */
     UserDto getUserById(Long id);
 
+    /**
+     * Retrieves a user by their email address.
+     * 
+     * @param email Email address of the user
+     * @return The UserDto registered with the email address
+     */
+    UserDto getUserByEmail(String email);
+
+    /**
+     * Retrieves the users registered with a mobile number.
+     * 
+     * @param mobileNo Mobile number of the users
+     * @return A list of UserDto objects, empty if none match
+     */
+    List<UserDto> getUsersByMobileNo(String mobileNo);
+
     /**
      * Retrieves a list of all users.
      * 
@@ -32,6 +49,18 @@ public interface UserService {
      */
     List<UserDto> getAllUsers();
 
+    /**
+     * Retrieves one page of users, optionally only those whose name, email or
+     * mobile number starts with a query.
+     * 
+     * @param query Prefix to search for, or null for all users
+     * @param sort  Sort field (id, name, email or mobileNo), optionally followed by ",desc"
+     * @param page  Zero-based page number
+     * @param size  Page size
+     * @return The requested page and the total number of matches
+     */
+    UserPageDto searchUsers(String query, String sort, int page, int size);
+
     /**
      * Updates the details of an existing user.
      * 
@@ -1,14 +1,22 @@
 package com.app.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.PriorityQueue;
+import java.util.function.Function;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import com.app.dto.UserDto;
+import com.app.dto.UserPageDto;
+import com.app.mapper.UserMapper;
 import com.app.entity.Users;
 import com.app.exception.UserException;
 import com.app.repository.UserRepository;
@@ -16,11 +24,22 @@ import com.app.repository.UserRepository;
 @Service
 public class UserServiceImpl implements UserService {
 
+	private static final int MAX_PAGE_SIZE = 100;
+
 	@Autowired
 	private UserRepository userRepository; // Repository for accessing user data
 
 	@Autowired
-	private ModelMapper modelMapper; // ModelMapper for DTO to entity conversion
+	private UserMapper userMapper; // Generated entity/DTO mapper
+
+	@Autowired
+	private JsonSnapshotCache jsonCache; // Cached list responses, invalidated on every write
+
+	@Autowired
+	private EmailBloomFilter emailFilter; // Skips the duplicate check for emails that are definitely new
+
+	@Autowired
+	private UserDirectory userDirectory; // In-memory prefix index for searching and paging
 
 	/**
 	 * Creates a new user based on the provided UserDto.
@@ -30,13 +49,24 @@ public class UserServiceImpl implements UserService {
 	 */
 	@Override
 	public UserDto createUser(UserDto userDto) {
-		Users user = modelMapper.map(userDto, Users.class); // Convert UserDto to Users entity
+		Users user = userMapper.toEntity(userDto); // Convert UserDto to Users entity
 		// Ensure mobileNo is provided
 		if (user.getMobileNo() == null) {
 			throw new UserException("Mobile number must not be null");
 		}
-		Users savedUser = userRepository.save(user); // Save user to the repository
-		return modelMapper.map(savedUser, UserDto.class); // Convert saved user to UserDto
+		if (user.getEmail() == null) {
+			throw new UserException("Email must not be null");
+		}
+		// Only query for duplicates when the filter has seen a similar email
+		if (emailFilter.mightContain(user.getEmail()) && userRepository.existsByEmail(user.getEmail())) {
+			throw new UserException("Email already registered: " + user.getEmail());
+		}
+		Users savedUser = save(user);
+		emailFilter.put(savedUser.getEmail());
+		jsonCache.invalidate();
+		UserDto savedDto = userMapper.toDto(savedUser); // Convert saved user to UserDto
+		userDirectory.put(savedUser);
+		return savedDto;
 	}
 
 	/**
@@ -49,10 +79,35 @@ public class UserServiceImpl implements UserService {
 	@Override
 	public UserDto getUserById(Long id) {
 		Optional<Users> user = userRepository.findById(id); // Find user by ID
-		return user.map(u -> modelMapper.map(u, UserDto.class)) // Convert entity to DTO
+		return user.map(userMapper::toDto) // Convert entity to DTO
 				.orElseThrow(() -> new UserException("User not found with id " + id)); // Throw exception if not found
 	}
 
+	/**
+	 * Retrieves a user by their email address. The password is left out.
+	 * 
+	 * @param email Email address of the user
+	 * @return The UserDto registered with the email address
+	 * @throws UserException if no user has the email address
+	 */
+	@Override
+	public UserDto getUserByEmail(String email) {
+		return userRepository.findByEmail(email).map(userMapper::toDtoWithoutPassword)
+				.orElseThrow(() -> new UserException("User not found with email " + email));
+	}
+
+	/**
+	 * Retrieves the users registered with a mobile number. Passwords are left
+	 * out.
+	 * 
+	 * @param mobileNo Mobile number of the users
+	 * @return A list of UserDto objects, empty if none match
+	 */
+	@Override
+	public List<UserDto> getUsersByMobileNo(String mobileNo) {
+		return userRepository.findByMobileNo(mobileNo).stream().map(userMapper::toDtoWithoutPassword).toList();
+	}
+
 	/**
 	 * Retrieves a list of all users.
 	 * 
@@ -60,9 +115,72 @@ public class UserServiceImpl implements UserService {
 	 */
 	@Override
 	public List<UserDto> getAllUsers() {
-		return userRepository.findAll().stream() // Retrieve all users
-				.map(user -> modelMapper.map(user, UserDto.class)) // Convert entities to DTOs
-				.collect(Collectors.toList()); // Collect as a list
+		return userMapper.toDtos(userRepository.findAll()); // Retrieve all users and convert them to DTOs
+	}
+
+	/**
+	 * Retrieves one page of users from the in-memory directory, optionally only
+	 * those whose name, email or mobile number starts with a query.
+	 * 
+	 * @param query Prefix to search for, or null for all users
+	 * @param sort  Sort field (id, name, email or mobileNo), optionally followed by ",desc"
+	 * @param page  Zero-based page number
+	 * @param size  Page size, at most 100
+	 * @return The requested page and the total number of matches
+	 * @throws UserException if the page, size or sort is invalid
+	 */
+	@Override
+	public UserPageDto searchUsers(String query, String sort, int page, int size) {
+		if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+			throw new UserException("Page must be at least 0 and size between 1 and " + MAX_PAGE_SIZE);
+		}
+		Comparator<UserDto> order = comparator(sort);
+		Collection<UserDto> matches = query == null || query.isBlank() ? userDirectory.all()
+				: userDirectory.search(query);
+		List<UserDto> content = firstInOrder(matches, order, (long) (page + 1) * size).stream()
+				.skip((long) page * size).toList();
+		return new UserPageDto(content, page, size, matches.size());
+	}
+
+	// The first k users in order, keeping only k of them at a time instead of sorting every match
+	private static List<UserDto> firstInOrder(Collection<UserDto> users, Comparator<UserDto> order, long k) {
+		if (k >= users.size()) {
+			return users.stream().sorted(order).toList();
+		}
+		// Max-heap of the best k so far; its head is the one to drop next
+		PriorityQueue<UserDto> best = new PriorityQueue<>((int) k, order.reversed());
+		for (UserDto user : users) {
+			if (best.size() < k) {
+				best.add(user);
+			} else if (order.compare(user, best.peek()) < 0) {
+				best.poll();
+				best.add(user);
+			}
+		}
+		List<UserDto> result = new ArrayList<>(best);
+		result.sort(order);
+		return result;
+	}
+
+	// Parses "field" or "field,asc|desc"; ties are broken by ID so pages are stable
+	private static Comparator<UserDto> comparator(String sort) {
+		String[] parts = (sort == null || sort.isBlank() ? "name" : sort).split(",");
+		Function<UserDto, String> key = switch (parts[0].trim()) {
+		case "id" -> null;
+		case "name" -> UserDto::getName;
+		case "email" -> UserDto::getEmail;
+		case "mobileNo" -> UserDto::getMobileNo;
+		default -> throw new UserException("Cannot sort users by " + parts[0]);
+		};
+		Comparator<UserDto> order = key == null ? Comparator.comparing(UserDto::getId)
+				: Comparator.comparing(key, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+						.thenComparing(UserDto::getId);
+		if (parts.length > 1 && parts[1].trim().equalsIgnoreCase("desc")) {
+			return order.reversed();
+		} else if (parts.length > 1 && !parts[1].trim().equalsIgnoreCase("asc")) {
+			throw new UserException("Sort direction must be asc or desc");
+		}
+		return order;
 	}
 
 	/**
@@ -85,8 +203,12 @@ public class UserServiceImpl implements UserService {
 		existingUser.setGender(userDto.getGender());
 		// Update other fields as necessary
 
-		Users updatedUser = userRepository.save(existingUser); // Save updated user
-		return modelMapper.map(updatedUser, UserDto.class); // Convert updated user to UserDto
+		Users updatedUser = save(existingUser); // Save updated user
+		emailFilter.put(updatedUser.getEmail());
+		jsonCache.invalidate();
+		UserDto updatedDto = userMapper.toDto(updatedUser); // Convert updated user to UserDto
+		userDirectory.put(updatedUser);
+		return updatedDto;
 	}
 
 	/**
@@ -101,5 +223,30 @@ public class UserServiceImpl implements UserService {
 			throw new UserException("User not found with id " + id); // Throw exception if user does not exist
 		}
 		userRepository.deleteById(id); // Delete user by ID
+		jsonCache.invalidate();
+		userDirectory.remove(id);
+	}
+
+	// Saves a user, reporting a concurrent sign-up with the same email as a UserException
+	private Users save(Users user) {
+		try {
+			return userRepository.saveAndFlush(user);
+		} catch (DataIntegrityViolationException e) {
+			if (violates(e, Users.EMAIL_CONSTRAINT)) {
+				throw new UserException("Email already registered: " + user.getEmail(), e);
+			}
+			throw e;
+		}
+	}
+
+	// Databases report the name with varying case and schema or index decorations
+	private static boolean violates(DataIntegrityViolationException e, String constraint) {
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConstraintViolationException violation) {
+				String name = violation.getConstraintName();
+				return name != null && name.toLowerCase(Locale.ROOT).contains(constraint);
+			}
+		}
+		return false;
 	}
 }
@@ -0,0 +1,68 @@
+package com.app;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.app.repository.UserRepository;
+import com.app.service.EmailBloomFilter;
+
+class EmailBloomFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private EmailBloomFilter emailFilter = new EmailBloomFilter(10_000, 0.01);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testEverythingMightBePresentUntilLoaded() {
+        assertTrue(emailFilter.mightContain("new@example.com"));
+    }
+
+    @Test
+    void testNoFalseNegativesAndFewFalsePositives() {
+        // Arrange
+        when(userRepository.streamAllEmails())
+                .thenReturn(IntStream.range(0, 10_000).mapToObj(i -> "user" + i + "@example.com"));
+
+        // Act
+        emailFilter.load();
+        emailFilter.put("Late.Signup@Example.com");
+
+        // Assert
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(emailFilter.mightContain("user" + i + "@example.com"));
+        }
+        assertTrue(emailFilter.mightContain(" late.signup@example.com"));
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> emailFilter.mightContain("other" + i + "@example.org")).count();
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void testEmptyTableRejectsEverything() {
+        // Arrange
+        when(userRepository.streamAllEmails()).thenReturn(Stream.empty());
+
+        // Act
+        emailFilter.load();
+
+        // Assert
+        assertFalse(emailFilter.mightContain("first@example.com"));
+    }
+}
@@ -0,0 +1,124 @@
+package com.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.app.exception.UserException;
+import com.app.exception.IdempotencyKeyReusedException;
+import com.app.service.IdempotencyStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class IdempotencyStoreTest {
+
+	private final IdempotencyStore store = new IdempotencyStore();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(store, "objectMapper", new ObjectMapper());
+		ReflectionTestUtils.setField(store, "ttlSeconds", 60L);
+		ReflectionTestUtils.setField(store, "maxKeys", 100);
+	}
+
+	@Test
+	void testConcurrentRepeatsRunOnce() throws Exception {
+		// Arrange
+		AtomicInteger runs = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+
+		// Act: the second call arrives while the first is still running
+		CompletableFuture<Integer> first = CompletableFuture.supplyAsync(() -> store.execute("k", "body", () -> {
+			await(release);
+			return runs.incrementAndGet();
+		}));
+		CompletableFuture<Integer> second = CompletableFuture
+				.supplyAsync(() -> store.execute("k", "body", runs::incrementAndGet));
+		Thread.sleep(100);
+		release.countDown();
+
+		// Assert
+		assertEquals(1, first.get());
+		assertEquals(1, second.get());
+		assertEquals(1, store.execute("k", "body", runs::incrementAndGet));
+		assertEquals(1, runs.get());
+	}
+
+	@Test
+	void testFailuresAreNotReplayed() {
+		// Arrange
+		assertThrows(UserException.class, () -> store.execute("k", "body", () -> {
+			throw new UserException("Email already registered");
+		}));
+
+		// Act & Assert
+		assertEquals("ok", store.execute("k", "body", () -> "ok"));
+	}
+
+	@Test
+	void testErrorsReleaseWaitingRequests() throws Exception {
+		// Arrange
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> store.execute("k", "body", () -> {
+			await(release);
+			throw new OutOfMemoryError("simulated");
+		}));
+		Thread.sleep(100);
+		CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> store.execute("k", "body", () -> "again"));
+		Thread.sleep(100);
+
+		// Act
+		release.countDown();
+
+		// Assert: the waiter gets the error instead of hanging, and the key is free again
+		ExecutionException failure = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+		assertEquals(OutOfMemoryError.class, failure.getCause().getClass());
+		assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+		assertEquals("ok", store.execute("k", "body", () -> "ok"));
+	}
+
+	@Test
+	void testReusedKeyWithDifferentBodyIsRejected() {
+		// Arrange
+		store.execute("k", List.of(1, 2), () -> "first");
+
+		// Act & Assert
+		assertThrows(IdempotencyKeyReusedException.class, () -> store.execute("k", List.of(1, 3), () -> "second"));
+		assertEquals("first", store.execute("k", List.of(1, 2), () -> "second"));
+	}
+
+	@Test
+	void testOldestKeysAreEvictedBeyondTheBound() {
+		// Arrange
+		ReflectionTestUtils.setField(store, "maxKeys", 2);
+		AtomicInteger runs = new AtomicInteger();
+		store.execute("a", "body", runs::incrementAndGet);
+		store.execute("b", "body", runs::incrementAndGet);
+
+		// Act: replaying "a" does not make it newer, so "c" pushes it out
+		int replayed = store.execute("a", "body", runs::incrementAndGet);
+		store.execute("c", "body", runs::incrementAndGet);
+
+		// Assert
+		assertEquals(1, replayed);
+		assertEquals(4, store.execute("a", "body", runs::incrementAndGet));
+		assertEquals(3, store.execute("c", "body", runs::incrementAndGet));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
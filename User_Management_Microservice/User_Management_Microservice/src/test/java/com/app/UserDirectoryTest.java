@@ -0,0 +1,101 @@
+package com.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.app.dto.UserDto;
+import com.app.entity.Users;
+import com.app.mapper.UserMapper;
+import com.app.repository.UserRepository;
+import com.app.service.JsonSnapshotCache;
+import com.app.service.UserDirectory;
+
+class UserDirectoryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+
+    @Mock
+    private JsonSnapshotCache jsonCache;
+
+    @InjectMocks
+    private UserDirectory userDirectory;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(userDirectory, "refreshSeconds", 300L);
+        when(userRepository.findAll()).thenReturn(List.of(
+                new Users(1L, "John Smith", "john@example.com", "+1 (555) 010-2000", "secret", "Male"),
+                new Users(2L, "Mary Johnson", "mary@example.com", "5550103000", "secret", "Female"),
+                new Users(3L, "Joan Lee", "lee@example.org", "+44 20 7946 0000", "secret", "Female")));
+    }
+
+    @Test
+    void testPrefixSearch() {
+        // Act & Assert
+        assertEquals(List.of(1L, 2L, 3L), sortedIds(userDirectory.search("Jo")));
+        assertEquals(List.of(1L, 2L), sortedIds(userDirectory.search("john")));
+        assertEquals(List.of(2L), sortedIds(userDirectory.search("mary j")));
+        assertEquals(List.of(3L), sortedIds(userDirectory.search("LEE@")));
+        assertEquals(List.of(1L), sortedIds(userDirectory.search("+1 (555) 01")));
+        assertEquals(List.of(2L), sortedIds(userDirectory.search("555-0103")));
+        assertTrue(userDirectory.search("xyz").isEmpty());
+        assertNull(userDirectory.search("john").get(0).getPassword());
+        verify(userRepository, times(1)).findAll();
+    }
+
+    @Test
+    void testUpdatesReplaceKeys() {
+        // Arrange
+        userDirectory.search("a");
+        Users renamed = new Users(1L, "Jack Smith", "jack@example.com", "1", "secret", "Male");
+
+        // Act
+        userDirectory.put(renamed);
+        userDirectory.remove(2L);
+
+        // Assert
+        assertEquals(List.of(3L), sortedIds(userDirectory.search("jo")));
+        assertEquals(List.of(1L), sortedIds(userDirectory.search("jack")));
+        assertNull(userDirectory.search("jack").get(0).getPassword());
+        assertEquals(2, userDirectory.all().size());
+    }
+
+    @Test
+    void testRebuildInvalidatesCachedPages() {
+        // Arrange
+        userDirectory.search("jo");
+        verify(jsonCache, times(1)).invalidate();
+
+        // Act: the refresh interval has passed
+        ReflectionTestUtils.setField(userDirectory, "refreshSeconds", -1L);
+        userDirectory.search("jo");
+
+        // Assert
+        verify(userRepository, times(2)).findAll();
+        verify(jsonCache, times(2)).invalidate();
+    }
+
+    private static List<Long> sortedIds(List<UserDto> users) {
+        return users.stream().map(UserDto::getId).sorted((a, b) -> Long.compare(a, b)).toList();
+    }
+}
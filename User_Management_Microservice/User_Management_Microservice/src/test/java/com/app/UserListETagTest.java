@@ -0,0 +1,90 @@
+package com.app;
+
+import com.app.controller.UserController;
+import com.app.dto.UserDto;
+import com.app.dto.UserPageDto;
+import com.app.service.JsonSnapshotCache;
+import com.app.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class UserListETagTest {
+
+    @Mock
+    private UserService userService;
+
+    @Spy
+    private JsonSnapshotCache jsonCache = new JsonSnapshotCache(256, 30);
+
+    @InjectMocks
+    private UserController userController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(jsonCache, "objectMapper", new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(userController).build();
+    }
+
+    @Test
+    void testSearchPageRevalidatesUntilWrite() throws Exception {
+        // Arrange
+        when(userService.searchUsers("an", null, 0, 20)).thenReturn(page(user("Anita")));
+        String etag = mockMvc.perform(get("/api/users").param("q", "an")).andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Anita")).andReturn().getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert: revalidation is answered from the snapshot, a write reloads
+        mockMvc.perform(get("/api/users").param("q", "an").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(userService, times(1)).searchUsers("an", null, 0, 20);
+
+        when(userService.searchUsers("an", null, 0, 20)).thenReturn(page(user("Anita"), user("Anand")));
+        jsonCache.invalidate();
+        mockMvc.perform(get("/api/users").param("q", "an").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk()).andExpect(jsonPath("$.totalElements").value(2));
+    }
+
+    @Test
+    void testGzipRefusedWithZeroQuality() throws Exception {
+        // Arrange
+        when(userService.getAllUsers()).thenReturn(List.of(user("Anita")));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users").header(HttpHeaders.ACCEPT_ENCODING, "GZIP; q=0"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+        mockMvc.perform(get("/api/users").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=1.0"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+    }
+
+    private static UserPageDto page(UserDto... users) {
+        return new UserPageDto(List.of(users), 0, 20, users.length);
+    }
+
+    private static UserDto user(String name) {
+        UserDto user = new UserDto();
+        user.setName(name);
+        return user;
+    }
+}
@@ -0,0 +1,135 @@
+package com.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.app.dto.UserDto;
+import com.app.entity.Users;
+import com.app.exception.UserException;
+import com.app.mapper.UserMapper;
+import com.app.repository.UserRepository;
+import com.app.service.EmailBloomFilter;
+import com.app.service.JsonSnapshotCache;
+import com.app.service.UserDirectory;
+import com.app.service.UserServiceImpl;
+
+class UserServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+
+    @Mock
+    private JsonSnapshotCache jsonCache;
+
+    @Mock
+    private EmailBloomFilter emailFilter;
+
+    @Mock
+    private UserDirectory userDirectory;
+
+    @InjectMocks
+    private UserServiceImpl userService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testConcurrentSignUpWithSameEmailIsReported() {
+        // Arrange: the other sign-up committed between the duplicate check and the insert
+        when(userRepository.saveAndFlush(any())).thenThrow(violation("PUBLIC.UK_USERS_EMAIL_INDEX_4"));
+
+        // Act
+        UserException e = assertThrows(UserException.class, () -> userService.createUser(request()));
+
+        // Assert
+        assertEquals("Email already registered: anita@example.com", e.getMessage());
+    }
+
+    @Test
+    void testOtherConstraintViolationsAreNotReportedAsDuplicateEmail() {
+        // Arrange
+        DataIntegrityViolationException violation = violation("users.name");
+        when(userRepository.saveAndFlush(any())).thenThrow(violation);
+
+        // Act & Assert
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class,
+                () -> userService.createUser(request())));
+    }
+
+    @Test
+    void testLookupsLeaveOutPassword() {
+        // Arrange
+        Users user = new Users(1L, "Anita", "anita@example.com", "9876543210", "secret", "FEMALE");
+        when(userRepository.findByEmail("anita@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findByMobileNo("9876543210")).thenReturn(List.of(user));
+
+        // Act
+        UserDto byEmail = userService.getUserByEmail("anita@example.com");
+        List<UserDto> byMobile = userService.getUsersByMobileNo("9876543210");
+
+        // Assert
+        assertEquals("Anita", byEmail.getName());
+        assertNull(byEmail.getPassword());
+        assertEquals(1L, byMobile.get(0).getId());
+        assertNull(byMobile.get(0).getPassword());
+    }
+
+    @Test
+    void testPagesMatchAFullSort() {
+        // Arrange: names out of order, two of them equal so the ID breaks the tie
+        List<UserDto> users = List.of(user(5L, "Eve"), user(1L, "bob"), user(7L, "Alice"), user(3L, "Dan"),
+                user(2L, "Carol"), user(6L, "Bob"), user(4L, "Frank"));
+        when(userDirectory.all()).thenReturn(users);
+
+        // Act & Assert
+        assertEquals(List.of(7L, 1L), ids(userService.searchUsers(null, "name", 0, 2).getContent()));
+        assertEquals(List.of(6L, 2L), ids(userService.searchUsers(null, "name", 1, 2).getContent()));
+        assertEquals(List.of(4L), ids(userService.searchUsers(null, "name", 3, 2).getContent()));
+        assertEquals(List.of(), ids(userService.searchUsers(null, "name", 4, 2).getContent()));
+        assertEquals(List.of(2L, 6L, 1L), ids(userService.searchUsers(null, "name,desc", 1, 3).getContent()));
+        assertEquals(7, userService.searchUsers(null, "id", 0, 2).getTotalElements());
+    }
+
+    private static UserDto user(Long id, String name) {
+        UserDto user = new UserDto();
+        user.setId(id);
+        user.setName(name);
+        return user;
+    }
+
+    private static List<Long> ids(List<UserDto> users) {
+        return users.stream().map(UserDto::getId).toList();
+    }
+
+    private static UserDto request() {
+        return new UserDto(null, "Anita", "anita@example.com", "9876543210", "secret", "FEMALE");
+    }
+
+    private static DataIntegrityViolationException violation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+    }
+}
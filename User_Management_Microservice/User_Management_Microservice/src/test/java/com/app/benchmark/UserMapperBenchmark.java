@@ -0,0 +1,83 @@
+package com.app.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.app.dto.UserDto;
+import com.app.entity.Users;
+import com.app.mapper.UserMapper;
+import com.app.mapper.UserMapperImpl;
+
+/**
+ * JMH comparison of the generated {@link UserMapper} with ModelMapper for a
+ * single user and a 10k-element list. Run it with
+ * {@code mvn -Pbenchmark -DskipTests test -Djmh.args=UserMapperBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMapperBenchmark {
+
+	private static final int LIST_SIZE = 10_000;
+
+	private final UserMapper userMapper = new UserMapperImpl();
+
+	private final ModelMapper modelMapper = new ModelMapper();
+
+	private Users user;
+
+	private List<Users> users;
+
+	@Setup
+	public void setUp() {
+		users = new ArrayList<>(LIST_SIZE);
+		for (int i = 0; i < LIST_SIZE; i++) {
+			Users u = new Users();
+			u.setId((long) i);
+			u.setName("User " + i);
+			u.setEmail("user" + i + "@example.com");
+			u.setMobileNo(String.format("9%09d", i));
+			u.setPassword("secret" + i);
+			u.setGender(i % 2 == 0 ? "MALE" : "FEMALE");
+			users.add(u);
+		}
+		user = users.get(0);
+	}
+
+	@Benchmark
+	public UserDto generatedSingle() {
+		return userMapper.toDto(user);
+	}
+
+	@Benchmark
+	public UserDto modelMapperSingle() {
+		return modelMapper.map(user, UserDto.class);
+	}
+
+	@Benchmark
+	public List<UserDto> generatedList() {
+		return userMapper.toDtos(users);
+	}
+
+	@Benchmark
+	public List<UserDto> modelMapperList() {
+		return users.stream().map(u -> modelMapper.map(u, UserDto.class)).collect(Collectors.toList());
+	}
+}
@@ -1,6 +1,7 @@
 package com.app.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -33,6 +34,10 @@ public class SecurityConfig
 	 @Autowired
 	 private JwtAuthFilter authFilter;
 
+	 // BCrypt cost factor: each +1 doubles the time per hash
+	 @Value("${auth.bcrypt.strength:10}")
+	 private int bcryptStrength;
+
 	
 
     @Bean //authentication
@@ -65,7 +70,7 @@ public class SecurityConfig
     @Bean
     PasswordEncoder passwordEncoder() 
     {
-        return new BCryptPasswordEncoder();
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 
     @Bean
@@ -2,15 +2,22 @@ package com.app.controller;
 
 
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -20,6 +27,10 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.app.dto.AuthRequest;
 import com.app.service.impl.JwtService;
+import com.app.service.impl.PasswordHashingPool;
+import com.app.service.impl.PooledPasswordEncoder;
+
+import jakarta.annotation.PostConstruct;
 
 
 
@@ -33,23 +44,50 @@ public class AuthController
 	private JwtService jwtService;
 
 	@Autowired
+	private UserDetailsService userDetailsService;
+	
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+	
+	@Autowired
+	private PasswordHashingPool hashingPool;
+	
+	@Autowired
+	@Qualifier("applicationTaskExecutor")
+	private Executor taskExecutor;
+	
 	private AuthenticationManager authenticationManager;
 	
 	
 	
+	 // Login's own provider: the usual account checks and timing protection, with only BCrypt on the hashing pool
+	 @PostConstruct
+	 void initAuthenticationManager()
+	  {
+		 DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+		 provider.setUserDetailsService(userDetailsService);
+		 provider.setPasswordEncoder(new PooledPasswordEncoder(passwordEncoder, hashingPool));
+		 authenticationManager = new ProviderManager(provider);
+	  }
+	
+	 // Async: the user lookup runs on the task executor, the BCrypt check on the hashing pool
 	 @PostMapping("/authenticate")
-	  public String authenticateAndGetToken(@RequestBody AuthRequest authRequest) 
+	  public CompletableFuture<String> authenticateAndGetToken(@RequestBody AuthRequest authRequest) 
+	  {
+	     return CompletableFuture.supplyAsync(() -> authenticationManager.authenticate(
+	    		 new UsernamePasswordAuthenticationToken(authRequest.getUsername(), authRequest.getPassword())), taskExecutor)
+	    		 .thenApply(authentication -> tokenFor(authentication, authRequest));
+	  }
+
+	 private String tokenFor(Authentication authentication, AuthRequest authRequest)
 	  {
-		 
-	     Authentication authentication = authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(authRequest.getUsername(), authRequest.getPassword()));
-	        
 	        if (authentication.isAuthenticated()) 
 	        {
 	            return jwtService.generateToken(authRequest.getUsername());
 	        } 
 	        else 
 	        {
-	            throw new UsernameNotFoundException("invalid user request !");
+	            throw new BadCredentialsException("invalid user request !");
 	        }
 	  }
 	        
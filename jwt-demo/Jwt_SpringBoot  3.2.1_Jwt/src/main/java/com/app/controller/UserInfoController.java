@@ -1,5 +1,7 @@
 package com.app.controller;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -18,11 +20,12 @@ public class UserInfoController
 	private UserInfoService userInfoService;
 	
 	
+	// Async: the servlet thread is released while the password is hashed
 	@PostMapping("/save")
-	public String saveUser(@RequestBody UserInfo userInfo)
+	public CompletableFuture<String> saveUser(@RequestBody UserInfo userInfo)
 	{
-		userInfoService.saveUser(userInfo);
-		return "User Created Successfully saved in db";
+		return userInfoService.saveUser(userInfo)
+				.thenApply(saved -> "User Created Successfully saved in db");
 	}
 	
 }
@@ -0,0 +1,13 @@
+package com.app.exception;
+
+/**
+ * Thrown when the password hashing pool's admission queue is full.
+ */
+public class HashingPoolSaturatedException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public HashingPoolSaturatedException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
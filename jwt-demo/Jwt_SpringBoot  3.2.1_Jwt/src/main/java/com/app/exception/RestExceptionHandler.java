@@ -0,0 +1,18 @@
+package com.app.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+@ControllerAdvice
+public class RestExceptionHandler {
+
+	// Fast back-pressure: the client should back off instead of waiting in line
+	@ExceptionHandler(HashingPoolSaturatedException.class)
+	public ResponseEntity<String> handleSaturated(HashingPoolSaturatedException e) {
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1")
+				.body(e.getMessage());
+	}
+}
@@ -1,8 +1,11 @@
 package com.app.service;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.app.entity.UserInfo;
 
 public interface UserInfoService
 {
-    public UserInfo saveUser(UserInfo userInfo);
+    // Completes once the password is hashed on the hashing pool and the user is saved
+    public CompletableFuture<UserInfo> saveUser(UserInfo userInfo);
 }
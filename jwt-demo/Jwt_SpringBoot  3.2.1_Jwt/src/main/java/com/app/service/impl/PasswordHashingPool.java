@@ -0,0 +1,86 @@
+package com.app.service.impl;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.app.exception.HashingPoolSaturatedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Dedicated, bounded pool for BCrypt work, so password hashing during sign-up
+ * and login spikes cannot occupy every Tomcat worker. Tasks wait in a bounded
+ * admission queue; once it is full new tasks are rejected at once with a
+ * {@link HashingPoolSaturatedException} (answered with 429) instead of piling
+ * up. Publishes the queue depth, active threads, rejections and task latency.
+ */
+@Component
+public class PasswordHashingPool implements MeterBinder {
+
+	private final ThreadPoolExecutor executor;
+
+	private MeterRegistry registry;
+
+	private Counter rejected;
+
+	public PasswordHashingPool(@Value("${auth.hashing.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+			@Value("${auth.hashing.queue-capacity:100}") int queueCapacity) {
+		AtomicInteger count = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), task -> {
+					Thread thread = new Thread(task, "password-hashing-" + count.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * Runs a hashing task on the pool.
+	 *
+	 * @param operation Names the task in the latency metric, e.g. "encode".
+	 * @param task      The work, including the BCrypt call.
+	 * @return A future completed on a pool thread with the task's result.
+	 * @throws HashingPoolSaturatedException If the admission queue is full.
+	 */
+	public <T> CompletableFuture<T> submit(String operation, Supplier<T> task) {
+		Supplier<T> timed = registry == null ? task
+				: () -> Timer.builder("password.hashing").tag("operation", operation).register(registry).record(task);
+		try {
+			return CompletableFuture.supplyAsync(timed, executor);
+		} catch (RejectedExecutionException e) {
+			if (rejected != null) {
+				rejected.increment();
+			}
+			throw new HashingPoolSaturatedException("Too many concurrent password operations, retry shortly", e);
+		}
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+				.description("Password hashing tasks waiting for a thread").register(registry);
+		Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+				.description("Password hashing tasks running").register(registry);
+		this.rejected = Counter.builder("password.hashing.rejected")
+				.description("Password hashing tasks rejected because the queue was full").register(registry);
+		this.registry = registry;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,50 @@
+package com.app.service.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Runs another encoder's hashing on the {@link PasswordHashingPool} and waits
+ * for the result, for callers that hash synchronously such as
+ * DaoAuthenticationProvider. The calling thread blocks, so use it only from
+ * threads that may wait, never from the pool itself.
+ */
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+	private final PasswordEncoder delegate;
+
+	private final PasswordHashingPool hashingPool;
+
+	public PooledPasswordEncoder(PasswordEncoder delegate, PasswordHashingPool hashingPool) {
+		this.delegate = delegate;
+		this.hashingPool = hashingPool;
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return await(hashingPool.submit("encode", () -> delegate.encode(rawPassword)));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return await(hashingPool.submit("matches", () -> delegate.matches(rawPassword, encodedPassword)));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	private static <T> T await(CompletableFuture<T> result) {
+		try {
+			return result.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
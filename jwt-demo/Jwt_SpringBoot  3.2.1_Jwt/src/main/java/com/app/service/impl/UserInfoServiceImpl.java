@@ -1,6 +1,10 @@
 package com.app.service.impl;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -21,13 +25,24 @@ public class UserInfoServiceImpl implements UserInfoService
 	@Autowired
 	private PasswordEncoder passwordEncoder;
 	
+	@Autowired
+	private PasswordHashingPool hashingPool;
+	
+	// Database work after the hash; the hashing pool only ever runs BCrypt
+	@Autowired
+	@Qualifier("applicationTaskExecutor")
+	private Executor taskExecutor;
+	
 	@Override
-	public UserInfo saveUser(UserInfo userInfo)
+	public CompletableFuture<UserInfo> saveUser(UserInfo userInfo)
 	{    
 		String rawPassword = userInfo.getPassword(); // Get the raw (plain text) password
-	    String encodedPassword = passwordEncoder.encode(rawPassword); // Encode the password using BCrypt
-	    userInfo.setPassword(encodedPassword); // Set the encoded password back to the user object
-	    return repository.save(userInfo);
+		// Encode the password using BCrypt on the hashing pool, not the request thread
+	    return hashingPool.submit("encode", () -> passwordEncoder.encode(rawPassword))
+	    		.thenApplyAsync(encodedPassword -> {
+	    			userInfo.setPassword(encodedPassword); // Set the encoded password back to the user object
+	    			return repository.save(userInfo);
+	    		}, taskExecutor);
 	}
 
 }
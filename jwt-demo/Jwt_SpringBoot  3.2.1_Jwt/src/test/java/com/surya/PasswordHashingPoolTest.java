@@ -0,0 +1,56 @@
+package com.surya;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.app.exception.HashingPoolSaturatedException;
+import com.app.service.impl.PasswordHashingPool;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingPoolTest {
+
+	private final PasswordHashingPool hashingPool = new PasswordHashingPool(1, 1);
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@AfterEach
+	void tearDown() {
+		hashingPool.shutdown();
+	}
+
+	@Test
+	void testRejectsWhenQueueIsFull() throws Exception {
+		// Arrange: one task running, one waiting
+		hashingPool.bindTo(registry);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> running = hashingPool.submit("encode", () -> await(release));
+		CompletableFuture<String> queued = hashingPool.submit("encode", () -> "queued");
+
+		// Act & Assert
+		assertThrows(HashingPoolSaturatedException.class, () -> hashingPool.submit("encode", () -> "rejected"));
+		assertEquals(1.0, registry.get("password.hashing.rejected").counter().count());
+		assertEquals(1.0, registry.get("password.hashing.queue.size").gauge().value());
+
+		release.countDown();
+		assertEquals("done", running.get(5, TimeUnit.SECONDS));
+		assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+		assertEquals(2, registry.get("password.hashing").tag("operation", "encode").timer().count());
+	}
+
+	private static String await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return "done";
+	}
+}
@@ -0,0 +1,167 @@
+package com.surya;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.app.controller.AuthController;
+import com.app.dto.AuthRequest;
+import com.app.dto.UserInfoUserDetails;
+import com.app.entity.UserInfo;
+import com.app.repository.UserInfoRepository;
+import com.app.service.impl.JwtService;
+import com.app.service.impl.PasswordHashingPool;
+import com.app.service.impl.UserInfoServiceImpl;
+
+/**
+ * Checks which thread each step of sign-up and login runs on: BCrypt on the
+ * hashing pool, database work anywhere else.
+ */
+class PasswordHashingThreadsTest {
+
+	private final PasswordHashingPool hashingPool = new PasswordHashingPool(1, 10);
+
+	private final ExecutorService taskExecutor = Executors.newSingleThreadExecutor(task -> new Thread(task, "task-1"));
+
+	// Step name to the thread that ran it
+	private final Map<String, String> threads = new ConcurrentHashMap<>();
+
+	@Mock
+	private UserInfoRepository repository;
+
+	@Mock
+	private UserDetailsService userDetailsService;
+
+	@Mock
+	private JwtService jwtService;
+
+	@Spy
+	private PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+	@InjectMocks
+	private UserInfoServiceImpl userInfoService;
+
+	@InjectMocks
+	private AuthController authController;
+
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		for (Object target : List.of(userInfoService, authController)) {
+			ReflectionTestUtils.setField(target, "hashingPool", hashingPool);
+			ReflectionTestUtils.setField(target, "taskExecutor", taskExecutor);
+		}
+		ReflectionTestUtils.invokeMethod(authController, "initAuthenticationManager");
+		doAnswer(invocation -> {
+			threads.put("encode", Thread.currentThread().getName());
+			return invocation.callRealMethod();
+		}).when(passwordEncoder).encode(any());
+		doAnswer(invocation -> {
+			threads.put("matches", Thread.currentThread().getName());
+			return invocation.callRealMethod();
+		}).when(passwordEncoder).matches(any(), any());
+	}
+
+	@AfterEach
+	void tearDown() {
+		hashingPool.shutdown();
+		taskExecutor.shutdown();
+	}
+
+	@Test
+	void testSaveHashesOnThePoolAndSavesElsewhere() throws Exception {
+		// Arrange
+		when(repository.save(any())).thenAnswer(invocation -> {
+			threads.put("save", Thread.currentThread().getName());
+			return invocation.getArgument(0);
+		});
+
+		// Act
+		UserInfo saved = userInfoService.saveUser(new UserInfo(0, "anita", "secret", "ROLE_USER"))
+				.get(5, TimeUnit.SECONDS);
+
+		// Assert
+		assertTrue(passwordEncoder.matches("secret", saved.getPassword()));
+		assertTrue(threads.get("encode").startsWith("password-hashing-"));
+		assertEquals("task-1", threads.get("save"));
+	}
+
+	@Test
+	void testLoginLooksUpTheUserOffThePool() throws Exception {
+		// Arrange
+		UserInfo user = new UserInfo(1, "anita", new BCryptPasswordEncoder(4).encode("secret"), "ROLE_USER");
+		when(userDetailsService.loadUserByUsername("anita")).thenAnswer(invocation -> {
+			threads.put("load", Thread.currentThread().getName());
+			return new UserInfoUserDetails(user);
+		});
+		when(jwtService.generateToken("anita")).thenReturn("token");
+
+		// Act
+		String token = authController.authenticateAndGetToken(new AuthRequest("anita", "secret"))
+				.get(5, TimeUnit.SECONDS);
+
+		// Assert
+		assertEquals("token", token);
+		assertEquals("task-1", threads.get("load"));
+		assertTrue(threads.get("matches").startsWith("password-hashing-"));
+	}
+
+	@Test
+	void testUnknownUserStillPaysForBCrypt() {
+		// Arrange
+		when(userDetailsService.loadUserByUsername("nobody")).thenThrow(new UsernameNotFoundException("user not found"));
+
+		// Act
+		ExecutionException e = assertThrows(ExecutionException.class, () -> authController
+				.authenticateAndGetToken(new AuthRequest("nobody", "secret")).get(5, TimeUnit.SECONDS));
+
+		// Assert
+		assertInstanceOf(BadCredentialsException.class, e.getCause());
+		assertTrue(threads.get("matches").startsWith("password-hashing-"));
+	}
+
+	@Test
+	void testDisabledAccountGetsNoToken() {
+		// Arrange
+		when(userDetailsService.loadUserByUsername("anita")).thenReturn(User.withUsername("anita")
+				.password(new BCryptPasswordEncoder(4).encode("secret")).authorities("ROLE_USER").disabled(true).build());
+
+		// Act
+		ExecutionException e = assertThrows(ExecutionException.class, () -> authController
+				.authenticateAndGetToken(new AuthRequest("anita", "secret")).get(5, TimeUnit.SECONDS));
+
+		// Assert
+		assertInstanceOf(DisabledException.class, e.getCause());
+		verify(jwtService, never()).generateToken(any());
+	}
+}